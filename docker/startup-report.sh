@@ -0,0 +1,36 @@
+#!/bin/sh
+# Builds the image and reports startup time and memory of the application with and without the AOT cache.
+# Usage: docker/startup-report.sh [image-tag]
+set -eu
+image=${1:-portfolio:aot}
+network=portfolio-startup-report
+
+docker build -t "$image" .
+docker network create "$network" > /dev/null
+docker run -d --rm --name portfolio-report-db --network "$network" \
+    -e POSTGRES_DB=portfolio -e POSTGRES_USER=postgres -e POSTGRES_PASSWORD=postgres postgres:17-alpine > /dev/null
+trap 'docker rm -f portfolio-report-db > /dev/null; docker network rm "$network" > /dev/null' EXIT
+until docker exec portfolio-report-db pg_isready -U postgres > /dev/null 2>&1; do sleep 1; done
+
+# $1: label, other arguments: extra docker run arguments
+# both runs sign with a generated JWT key, the prod profile refuses to start without a key set otherwise
+measure() {
+    label=$1
+    shift
+    container=$(docker run -d --network "$network" \
+        -e PGHOST=portfolio-report-db -e PGPORT=5432 -e PGDATABASE=portfolio \
+        -e POSTGRES_USER=postgres -e POSTGRES_PASSWORD=postgres \
+        -e PORTFOLIO_JWT_GENERATE_KEY=true -e PORTFOLIO_CLUSTER_INVALIDATION_ENABLED=false "$@")
+    until docker logs "$container" 2>&1 | grep -q "Started PortfolioApplication"; do
+        # a container that exited never logs it, show why instead of waiting forever
+        [ "$(docker inspect -f '{{.State.Running}}' "$container")" = "true" ] || { docker logs "$container"; exit 1; }
+        sleep 1
+    done
+    started=$(docker logs "$container" 2>&1 | grep -o "Started PortfolioApplication in .*)")
+    rss=$(docker exec "$container" grep VmRSS /proc/1/status | tr -s ' ')
+    echo "$label: $started, $rss"
+    docker rm -f "$container" > /dev/null
+}
+
+measure "without AOT cache" --entrypoint java "$image" -jar app.jar
+measure "with AOT cache" "$image"
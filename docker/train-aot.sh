@@ -0,0 +1,26 @@
+#!/bin/sh
+# Creates the AOT cache app.aot of the image (JEP 483, two steps on JDK 24).
+# The application is started once against a throwaway PostgreSQL, so Flyway, Hibernate and Spring Batch
+# load and link the classes of their real startup path, and exits as soon as the context is refreshed.
+# The prod profile needs a JWT key set: the training run signs nothing and uses a generated key. It
+# neither listens to the other instances nor drains the notification outbox.
+set -eu
+[ "${AOT_TRAINING:-true}" = "true" ] || exit 0
+
+apk add --no-cache postgresql > /dev/null
+mkdir -p /run/postgresql /tmp/pgdata
+chown postgres /run/postgresql /tmp/pgdata
+su postgres -c "initdb -D /tmp/pgdata -U postgres --auth=trust" > /dev/null
+su postgres -c "pg_ctl -D /tmp/pgdata -o '-h 127.0.0.1' -w start" > /dev/null
+su postgres -c "createdb -h 127.0.0.1 -U postgres portfolio"
+
+export PGHOST=127.0.0.1 PGPORT=5432 PGDATABASE=portfolio POSTGRES_USER=postgres POSTGRES_PASSWORD=postgres
+java -XX:AOTMode=record -XX:AOTConfiguration=app.aotconf -Dspring.context.exit=onRefresh \
+    -Dportfolio.jwt.generate-key=true -Dportfolio.cluster.invalidation.enabled=false \
+    -Dportfolio.notifications.dispatcher.enabled=false -jar app.jar
+java -XX:AOTMode=create -XX:AOTConfiguration=app.aotconf -XX:AOTCache=app.aot -jar app.jar
+rm app.aotconf
+
+su postgres -c "pg_ctl -D /tmp/pgdata -m fast stop" > /dev/null
+rm -rf /tmp/pgdata
+apk del postgresql > /dev/null
@@ -0,0 +1,37 @@
+#!/bin/sh
+# Smoke test of the native executable (./mvnw -Pnative native:compile): starts it against a
+# throwaway PostgreSQL, goes through signup, login and the skill list, and prints startup time and RSS.
+# The prod profile has no JWT key set here, the binary signs with a key generated at startup.
+set -eu
+binary=${1:-target/portfolio}
+port=18080
+
+docker run -d --rm --name portfolio-smoke-db -p 55432:5432 \
+    -e POSTGRES_DB=portfolio -e POSTGRES_USER=postgres -e POSTGRES_PASSWORD=postgres postgres:17-alpine > /dev/null
+app=
+# a failing step shows the end of the application log
+trap 'status=$?; [ $status -eq 0 ] || tail -n 50 target/native-smoke.log 2> /dev/null; [ -z "$app" ] || kill "$app" 2> /dev/null || true; docker rm -f portfolio-smoke-db > /dev/null' EXIT
+until docker exec portfolio-smoke-db pg_isready -U postgres > /dev/null 2>&1; do sleep 1; done
+
+PGHOST=localhost PGPORT=55432 PGDATABASE=portfolio POSTGRES_USER=postgres POSTGRES_PASSWORD=postgres \
+    "$binary" --server.port=$port --portfolio.jwt.generate-key=true --portfolio.cluster.invalidation.enabled=false \
+    > target/native-smoke.log 2>&1 &
+app=$!
+until grep -q "Started PortfolioApplication" target/native-smoke.log; do
+    kill -0 "$app" || { cat target/native-smoke.log; exit 1; }
+    sleep 0.1
+done
+grep -o "Started PortfolioApplication in .*)" target/native-smoke.log
+grep VmRSS /proc/$app/status
+
+base=http://localhost:$port
+curl -sf -H 'Content-Type: application/json' \
+    -d '{"email":"smoke@example.com","password":"smoke-password","firstName":"Smoke","lastName":"Test"}' \
+    $base/api/auth/signup > /dev/null
+jwt=$(curl -sf -H 'Content-Type: application/json' \
+    -d '{"email":"smoke@example.com","password":"smoke-password"}' \
+    $base/api/auth/login | sed -n 's/.*"jwt":"\([^"]*\)".*/\1/p')
+[ -n "$jwt" ] || { echo "login returned no jwt"; exit 1; }
+curl -sf -H "Authorization: Bearer $jwt" $base/api/v0/getSkills > /dev/null
+curl -sf $base/.well-known/jwks.json > /dev/null
+echo "native smoke test passed"
@@ -0,0 +1,54 @@
+package com.portfolio.backend.benchmarks;
+
+import com.portfolio.backend.entity.Role;
+import com.portfolio.backend.utils.RoleAuthorities;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code User.getAuthorities()}, called several times per authenticated request: the authorities built
+ * from the role set on each call ({@code perCall}, as before the roles mask) against the interned
+ * lists of {@link RoleAuthorities}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RoleAuthoritiesBenchmark {
+
+    private Set<Role> roles;
+    private int rolesMask;
+
+    @Setup
+    public void setUp() {
+        roles = EnumSet.of(Role.USER, Role.ADMIN);
+        rolesMask = RoleAuthorities.mask(roles);
+    }
+
+    @Benchmark
+    public Collection<? extends GrantedAuthority> perCall() {
+        return roles.stream().map(role -> new SimpleGrantedAuthority("ROLE_" + role.name())).toList();
+    }
+
+    @Benchmark
+    public Collection<? extends GrantedAuthority> interned() {
+        return RoleAuthorities.authorities(rolesMask);
+    }
+}
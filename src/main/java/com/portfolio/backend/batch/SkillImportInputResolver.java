@@ -0,0 +1,55 @@
+package com.portfolio.backend.batch;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+
+/**
+ * Resolves the {@code input} of a skill import against the import directory
+ * ({@code portfolio.batch.skill-import.base-dir}).
+ * <p>
+ * The input is a file name or pattern relative to that directory (e.g. {@code skills-*.csv}). Any
+ * other location is refused: resource prefixes and URLs ({@code classpath*:}, {@code file:},
+ * {@code http:}), absolute paths and {@code ..} segments, so that an import can neither read the
+ * files of the server nor make it fetch a remote URL.
+ * </p>
+ */
+@Component
+public class SkillImportInputResolver {
+
+    private final Path baseDir;
+
+    public SkillImportInputResolver(@Value("${portfolio.batch.skill-import.base-dir:imports}") Path baseDir) {
+        this.baseDir = baseDir.toAbsolutePath().normalize();
+    }
+
+    /**
+     * @param input file name or pattern relative to the import directory
+     * @return the {@code file:} resource pattern of the input inside the import directory
+     * @throws IllegalArgumentException if the input points outside the import directory
+     */
+    public String resolve(String input) {
+        if (input == null || input.isBlank() || input.indexOf(':') >= 0
+                || input.startsWith("/") || input.startsWith("\\")) {
+            throw new IllegalArgumentException("Import input must be a path relative to the import directory");
+        }
+        Path relative;
+        try {
+            relative = Path.of(input);
+        } catch (InvalidPathException e) {
+            throw new IllegalArgumentException("Invalid import input");
+        }
+        for (Path segment : relative) {
+            if ("..".equals(segment.toString())) {
+                throw new IllegalArgumentException("Import input must not contain '..'");
+            }
+        }
+        Path resolved = baseDir.resolve(relative).normalize();
+        if (relative.isAbsolute() || !resolved.startsWith(baseDir)) {
+            throw new IllegalArgumentException("Import input must be a path relative to the import directory");
+        }
+        return "file:" + resolved;
+    }
+}
@@ -0,0 +1,198 @@
+package com.portfolio.backend.batch;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portfolio.backend.cluster.ChangedEntity;
+import com.portfolio.backend.cluster.EntityChangedEvent;
+import com.portfolio.backend.configs.CacheConfiguration;
+import com.portfolio.backend.dtos.SkillDto;
+import com.portfolio.backend.exceptions.InvalidSkillException;
+import com.portfolio.backend.repositories.SkillJdbcRepository;
+import com.portfolio.backend.services.SkillCatalogChangedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.batch.core.SkipListener;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.partition.support.MultiResourcePartitioner;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.ParseException;
+import org.springframework.batch.item.file.builder.FlatFileItemReaderBuilder;
+import org.springframework.batch.item.json.builder.JsonItemReaderBuilder;
+import org.springframework.batch.item.support.AbstractItemCountingItemStreamItemReader;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.core.io.support.ResourcePatternUtils;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+import java.util.Locale;
+
+/**
+ * Chunk oriented job importing a skill catalog from CSV or JSON files.
+ * <p>
+ * The {@code input} job parameter is a file pattern relative to the import directory
+ * (e.g. {@code skills-*.csv}, resolved by the {@link SkillImportInputResolver}). Every matching file becomes one partition, and the partitions run in parallel worker steps.
+ * Each worker streams its file, validates rows and resolves icons through the
+ * {@link SkillImportProcessor}, then upserts each chunk by (category, skill_name) with a single
+ * statement. The skill caches are cleared and a {@link SkillCatalogChangedEvent} is published once
+ * the job is finished.
+ * </p>
+ * <p>
+ * Readers save their position in the step execution context, so relaunching a failed import with
+ * the same {@code input} restarts every unfinished file where its last committed chunk ended.
+ * Invalid rows are skipped (up to {@code portfolio.batch.skill-import.skip-limit}) and logged: rows
+ * rejected by the processor, unreadable CSV lines and JSON elements that do not map to a skill
+ * ({@link SkillJsonObjectReader}). A file that is not valid JSON at all fails its partition.
+ * </p>
+ * <p>
+ * The job is launched in the background by the {@link SkillImportLauncher}.
+ * </p>
+ * CSV files need a header line and the columns {@code category,skill_name,framework,icon}. JSON
+ * files hold an array of {@link SkillDto} objects.
+ */
+@Configuration
+public class SkillImportJobConfiguration {
+
+    public static final String JOB_NAME = "skillImportJob";
+    public static final String MANAGER_STEP_NAME = "skillImportStep";
+    public static final String INPUT_PARAMETER = "input";
+
+    private static final String WORKER_STEP_NAME = "skillImportWorker";
+    private static final String[] CSV_COLUMNS = {"category", "skill_name", "framework", "icon"};
+    private static final Logger log = LoggerFactory.getLogger(SkillImportJobConfiguration.class);
+
+    @Value("${portfolio.batch.skill-import.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${portfolio.batch.skill-import.skip-limit:100}")
+    private int skipLimit;
+
+    @Value("${portfolio.batch.skill-import.concurrency:4}")
+    private int concurrency;
+
+    @Bean
+    public Job skillImportJob(JobRepository jobRepository, Step skillImportStep, CacheManager cacheManager,
+                              ApplicationEventPublisher eventPublisher) {
+        return new JobBuilder(JOB_NAME, jobRepository)
+                .start(skillImportStep)
+                .listener(new JobExecutionListener() {
+                    @Override
+                    public void afterJob(JobExecution jobExecution) {
+                        cacheManager.getCache(CacheConfiguration.SKILLS_CACHE).clear();
+                        cacheManager.getCache(CacheConfiguration.SKILL_CACHE).clear();
+                        eventPublisher.publishEvent(new SkillCatalogChangedEvent());
+                        eventPublisher.publishEvent(EntityChangedEvent.local(ChangedEntity.SKILL, null));
+                    }
+                })
+                .build();
+    }
+
+    @Bean
+    public Step skillImportStep(JobRepository jobRepository, MultiResourcePartitioner skillImportPartitioner,
+                                Step skillImportWorker) {
+        return new StepBuilder(MANAGER_STEP_NAME, jobRepository)
+                .partitioner(WORKER_STEP_NAME, skillImportPartitioner)
+                .step(skillImportWorker)
+                .taskExecutor(skillImportTaskExecutor())
+                .gridSize(concurrency)
+                .listener(new SkillImportThroughputListener())
+                .build();
+    }
+
+    @Bean
+    public Step skillImportWorker(JobRepository jobRepository, PlatformTransactionManager transactionManager,
+                                  AbstractItemCountingItemStreamItemReader<SkillDto> skillImportReader,
+                                  SkillJdbcRepository skillJdbcRepository) {
+        return new StepBuilder(WORKER_STEP_NAME, jobRepository)
+                .<SkillDto, SkillDto>chunk(chunkSize, transactionManager)
+                .reader(skillImportReader)
+                .processor(new SkillImportProcessor())
+                .writer(chunk -> skillJdbcRepository.upsert(chunk.getItems()))
+                .faultTolerant()
+                .skip(InvalidSkillException.class)
+                .skip(ParseException.class)
+                .skipLimit(skipLimit)
+                .retry(TransientDataAccessException.class)
+                .retryLimit(3)
+                .listener(new SkipListener<SkillDto, SkillDto>() {
+                    @Override
+                    public void onSkipInRead(Throwable t) {
+                        log.warn("Skipped unreadable skill row: {}", t.getMessage());
+                    }
+
+                    @Override
+                    public void onSkipInProcess(SkillDto item, Throwable t) {
+                        log.warn("Skipped invalid skill row: {}", t.getMessage());
+                    }
+
+                    @Override
+                    public void onSkipInWrite(SkillDto item, Throwable t) {
+                        log.warn("Skipped skill {} on write: {}", item.getSkill_name(), t.getMessage());
+                    }
+                })
+                .listener(new SkillImportThroughputListener())
+                .build();
+    }
+
+    @Bean
+    @StepScope
+    public MultiResourcePartitioner skillImportPartitioner(
+            ResourceLoader resourceLoader, SkillImportInputResolver inputResolver,
+            @Value("#{jobParameters['" + INPUT_PARAMETER + "']}") String input) throws IOException {
+        ResourcePatternResolver resolver = ResourcePatternUtils.getResourcePatternResolver(resourceLoader);
+        MultiResourcePartitioner partitioner = new MultiResourcePartitioner();
+        partitioner.setResources(resolver.getResources(inputResolver.resolve(input)));
+        return partitioner;
+    }
+
+    /**
+     * One reader per partition; the file is picked from the key written by the {@link MultiResourcePartitioner}.
+     */
+    @Bean
+    @StepScope
+    public AbstractItemCountingItemStreamItemReader<SkillDto> skillImportReader(
+            ResourceLoader resourceLoader,
+            @Value("#{stepExecutionContext['fileName']}") String fileName) {
+        Resource resource = resourceLoader.getResource(fileName);
+        if (fileName.toLowerCase(Locale.ROOT).endsWith(".json")) {
+            return new JsonItemReaderBuilder<SkillDto>()
+                    .name("skillJsonReader")
+                    .resource(resource)
+                    .jsonObjectReader(new SkillJsonObjectReader(new ObjectMapper()))
+                    .build();
+        }
+        return new FlatFileItemReaderBuilder<SkillDto>()
+                .name("skillCsvReader")
+                .resource(resource)
+                .linesToSkip(1)
+                .delimited()
+                .names(CSV_COLUMNS)
+                .fieldSetMapper(fieldSet -> SkillDto.builder()
+                        .category(fieldSet.readString("category"))
+                        .skill_name(fieldSet.readString("skill_name"))
+                        .framework(fieldSet.readString("framework"))
+                        .icon(fieldSet.readString("icon"))
+                        .build())
+                .build();
+    }
+
+    private TaskExecutor skillImportTaskExecutor() {
+        SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor("skill-import-");
+        taskExecutor.setConcurrencyLimit(concurrency);
+        return taskExecutor;
+    }
+}
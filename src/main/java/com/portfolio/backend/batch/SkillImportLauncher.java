@@ -0,0 +1,69 @@
+package com.portfolio.backend.batch;
+
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionException;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.launch.support.TaskExecutorJobLauncher;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * Starts skill imports in the background and looks up their executions.
+ * <p>
+ * The job runs on its own thread: the request that starts an import gets the execution back as soon
+ * as it is created, instead of holding a request thread and a database connection until the last
+ * file is imported. The launcher is not a {@code JobLauncher} bean, the synchronous one of the batch
+ * auto-configuration stays the only one.
+ * </p>
+ */
+@Component
+public class SkillImportLauncher {
+
+    private final TaskExecutorJobLauncher jobLauncher;
+    private final JobExplorer jobExplorer;
+    private final Job skillImportJob;
+    private final SkillImportInputResolver inputResolver;
+
+    public SkillImportLauncher(JobRepository jobRepository, JobExplorer jobExplorer, Job skillImportJob,
+                               SkillImportInputResolver inputResolver) throws Exception {
+        TaskExecutorJobLauncher jobLauncher = new TaskExecutorJobLauncher();
+        jobLauncher.setJobRepository(jobRepository);
+        jobLauncher.setTaskExecutor(new SimpleAsyncTaskExecutor("skill-import-job-"));
+        jobLauncher.afterPropertiesSet();
+        this.jobLauncher = jobLauncher;
+        this.jobExplorer = jobExplorer;
+        this.skillImportJob = skillImportJob;
+        this.inputResolver = inputResolver;
+    }
+
+    /**
+     * Starts the import of the files matching the input, or restarts it if its last execution failed.
+     *
+     * @param input pattern of the files to import, relative to the import directory
+     * @return the execution, still starting when it is returned
+     * @throws IllegalArgumentException if the input points outside the import directory
+     * @throws org.springframework.batch.core.repository.JobInstanceAlreadyCompleteException if this input was already imported
+     * @throws org.springframework.batch.core.repository.JobExecutionAlreadyRunningException if this input is being imported
+     */
+    public JobExecution start(String input) throws JobExecutionException {
+        inputResolver.resolve(input);
+        JobParameters jobParameters = new JobParametersBuilder()
+                .addString(SkillImportJobConfiguration.INPUT_PARAMETER, input)
+                .toJobParameters();
+        return jobLauncher.run(skillImportJob, jobParameters);
+    }
+
+    /**
+     * @return the execution of a skill import with its step executions, empty if there is none with this id
+     */
+    public Optional<JobExecution> find(long jobExecutionId) {
+        return Optional.ofNullable(jobExplorer.getJobExecution(jobExecutionId))
+                .filter(execution -> SkillImportJobConfiguration.JOB_NAME.equals(execution.getJobInstance().getJobName()));
+    }
+}
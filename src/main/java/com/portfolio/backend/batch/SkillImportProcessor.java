@@ -0,0 +1,76 @@
+package com.portfolio.backend.batch;
+
+import com.portfolio.backend.dtos.SkillDto;
+import com.portfolio.backend.exceptions.InvalidSkillException;
+import org.apache.commons.lang3.StringUtils;
+import org.silentsoft.simpleicons.SimpleIcons;
+import org.springframework.batch.item.ItemProcessor;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Validates an imported skill row and resolves its icon against the simpleicons catalog.
+ * <p>
+ * The icon column may contain a slug ("springboot") or a display name ("Spring Boot"); both are
+ * normalised with the simple-icons slug rules. When the column is empty the skill name is tried.
+ * Rows without category/name or with an explicit but unknown icon are rejected with an
+ * {@link InvalidSkillException}, which the step skips.
+ * </p>
+ */
+public class SkillImportProcessor implements ItemProcessor<SkillDto, SkillDto> {
+
+    private static final int MAX_LENGTH = 255;
+
+    /* a catalog import repeats the same handful of icons, no need to hit simpleicons for each row */
+    private final Map<String, Boolean> knownSlugs = new ConcurrentHashMap<>();
+
+    @Override
+    public SkillDto process(SkillDto skillDto) {
+        String category = StringUtils.trimToNull(skillDto.getCategory());
+        String skillName = StringUtils.trimToNull(skillDto.getSkill_name());
+        if (category == null || skillName == null) {
+            throw new InvalidSkillException("Skill row without category or skill_name: " + skillDto);
+        }
+        if (category.length() > MAX_LENGTH || skillName.length() > MAX_LENGTH) {
+            throw new InvalidSkillException("Skill row exceeds " + MAX_LENGTH + " characters: " + skillName);
+        }
+
+        String icon = StringUtils.trimToNull(skillDto.getIcon());
+        String slug;
+        if (icon != null) {
+            slug = toSlug(icon);
+            if (!isKnownSlug(slug)) {
+                throw new InvalidSkillException("Unknown simpleicons slug '" + icon + "' for skill " + skillName);
+            }
+        } else {
+            slug = toSlug(skillName);
+            if (!isKnownSlug(slug)) {
+                slug = null;
+            }
+        }
+
+        return SkillDto.builder()
+                .category(category)
+                .skill_name(skillName)
+                .framework(StringUtils.trimToNull(skillDto.getFramework()))
+                .icon(slug)
+                .build();
+    }
+
+    private boolean isKnownSlug(String slug) {
+        return !slug.isEmpty() && knownSlugs.computeIfAbsent(slug, s -> SimpleIcons.get(s) != null);
+    }
+
+    /**
+     * Same normalisation as the simple-icons project uses to build its slugs from titles.
+     */
+    static String toSlug(String title) {
+        String slug = title.toLowerCase(Locale.ROOT)
+                .replace("+", "plus")
+                .replace(".", "dot")
+                .replace("&", "and");
+        return slug.replaceAll("[^a-z0-9]", "");
+    }
+}
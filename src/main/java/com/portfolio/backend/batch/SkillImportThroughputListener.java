@@ -0,0 +1,35 @@
+package com.portfolio.backend.batch;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Logs the counters and the write throughput (rows per second) of each skill import step.
+ */
+public class SkillImportThroughputListener implements StepExecutionListener {
+
+    private static final Logger log = LoggerFactory.getLogger(SkillImportThroughputListener.class);
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        LocalDateTime start = stepExecution.getStartTime();
+        long millis = start == null ? 0 : Math.max(1, Duration.between(start, LocalDateTime.now()).toMillis());
+        double rowsPerSecond = millis == 0 ? 0 : stepExecution.getWriteCount() * 1000.0 / millis;
+
+        log.info("Step {} read={} written={} skipped={} commits={} in {} ms ({} rows/s)",
+                stepExecution.getStepName(),
+                stepExecution.getReadCount(),
+                stepExecution.getWriteCount(),
+                stepExecution.getSkipCount(),
+                stepExecution.getCommitCount(),
+                millis,
+                String.format("%.1f", rowsPerSecond));
+        return stepExecution.getExitStatus();
+    }
+}
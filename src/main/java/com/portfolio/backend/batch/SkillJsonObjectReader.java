@@ -0,0 +1,105 @@
+package com.portfolio.backend.batch;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portfolio.backend.dtos.SkillDto;
+import org.springframework.batch.item.NonTransientResourceException;
+import org.springframework.batch.item.ParseException;
+import org.springframework.batch.item.json.JsonObjectReader;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+
+/**
+ * Reads the skills of a JSON import file, an array of {@link SkillDto} objects, one row at a time.
+ * <p>
+ * Each element is read as a whole tree before it is mapped, so a row that does not map to a
+ * {@link SkillDto} (wrong type, unknown property, not an object) leaves the parser on the next row
+ * and is reported as a {@link ParseException}, which the step skips like an unreadable CSV line.
+ * A file that is not valid JSON cannot be resynchronised: that fails the step with a
+ * {@link NonTransientResourceException}.
+ * </p>
+ */
+class SkillJsonObjectReader implements JsonObjectReader<SkillDto> {
+
+    private final ObjectMapper objectMapper;
+    private JsonParser parser;
+    private String description;
+
+    SkillJsonObjectReader(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void open(Resource resource) throws Exception {
+        description = resource.getDescription();
+        parser = objectMapper.createParser(resource.getInputStream());
+        if (parser.nextToken() != JsonToken.START_ARRAY) {
+            throw new IllegalStateException("A JSON skill import holds an array of skills: " + description);
+        }
+    }
+
+    @Override
+    public SkillDto read() {
+        JsonToken token = nextToken();
+        if (token == null || token == JsonToken.END_ARRAY) {
+            return null;
+        }
+        if (token != JsonToken.START_OBJECT) {
+            skipChildren();
+            throw new ParseException("Skill row is not a JSON object in " + description);
+        }
+        JsonNode row;
+        try {
+            row = parser.readValueAsTree();
+        } catch (IOException e) {
+            throw new NonTransientResourceException("Malformed JSON in " + description, e);
+        }
+        try {
+            return objectMapper.treeToValue(row, SkillDto.class);
+        } catch (JsonProcessingException e) {
+            throw new ParseException("Invalid skill row " + row + " in " + description + ": " + e.getOriginalMessage(), e);
+        }
+    }
+
+    /**
+     * On restart, skips the rows read before the last commit, the skipped invalid ones included,
+     * without mapping them again.
+     */
+    @Override
+    public void jumpToItem(int itemIndex) {
+        for (int i = 0; i < itemIndex; i++) {
+            JsonToken token = nextToken();
+            if (token == null || token == JsonToken.END_ARRAY) {
+                return;
+            }
+            skipChildren();
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (parser != null) {
+            parser.close();
+        }
+    }
+
+    private JsonToken nextToken() {
+        try {
+            return parser.nextToken();
+        } catch (IOException e) {
+            throw new NonTransientResourceException("Malformed JSON in " + description, e);
+        }
+    }
+
+    private void skipChildren() {
+        try {
+            parser.skipChildren();
+        } catch (IOException e) {
+            throw new NonTransientResourceException("Malformed JSON in " + description, e);
+        }
+    }
+}
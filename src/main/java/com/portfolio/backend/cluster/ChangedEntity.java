@@ -0,0 +1,10 @@
+package com.portfolio.backend.cluster;
+
+/**
+ * The kinds of data whose changes are announced to the other instances, see {@link InvalidationBus}.
+ */
+public enum ChangedEntity {
+    SKILL,
+    USER,
+    CONTACT_US
+}
@@ -0,0 +1,20 @@
+package com.portfolio.backend.cluster;
+
+/**
+ * A change of an entity, published by the services in the transaction making the change
+ * ({@code remote = false}) and by the {@link InvalidationBus} for a change committed by another
+ * instance ({@code remote = true}).
+ *
+ * @param entity the kind of entity
+ * @param id the id of the changed entity, {@code null} when any of them may have changed
+ * @param remote whether the change was made by another instance
+ */
+public record EntityChangedEvent(ChangedEntity entity, Long id, boolean remote) {
+
+    /**
+     * A change made by this instance.
+     */
+    public static EntityChangedEvent local(ChangedEntity entity, Long id) {
+        return new EntityChangedEvent(entity, id, false);
+    }
+}
@@ -0,0 +1,240 @@
+package com.portfolio.backend.cluster;
+
+import com.portfolio.backend.configs.ReplicaLagGuard;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Tells the other instances which entities changed, through Postgres {@code NOTIFY}, so that they
+ * evict exactly those from their local caches. No broker is needed beside the database.
+ * <p>
+ * Local {@link EntityChangedEvent}s are collected after their commit and sent every
+ * {@code portfolio.cluster.invalidation.flush-interval} as one notification
+ * {@code <node> <version> SKILL:1,2 USER:* ...}. Coalescing bounds the traffic during bulk updates:
+ * an id changed several times is sent once, and more than {@code max-ids} ids of one entity are
+ * collapsed into {@code *} (evict all), which also keeps the payload below the 8000 bytes limit of
+ * {@code NOTIFY}. The version is a per node sequence number, for the logs.
+ * </p>
+ * <p>
+ * Each instance {@code LISTEN}s on a dedicated connection (not taken from the pool) and republishes
+ * the changes of the other nodes as remote {@link EntityChangedEvent}s. Notifications sent while the
+ * connection was down are lost, so after a reconnection everything is evicted once.
+ * </p>
+ * <p>
+ * Before the remote changes are published, the {@link ReplicaLagGuard} (when reads go to a replica)
+ * is told about the write: the listeners reload what they evicted (catalog snapshot, skills, the new
+ * contact-us message) and the replica may not have replayed that write yet.
+ * </p>
+ * <p>
+ * Revoked tokens ({@link TokenRevokedEvent}) go through a second channel, one notification
+ * {@code <node> <jti> <expiry>} per revocation, sent right away. A revocation missed while the
+ * connection was down cannot be replayed: that token stays usable on this instance until it expires.
+ * Two instances exchanging the same refresh token within the notification delay both accept it.
+ * </p>
+ */
+@Component
+@ConditionalOnProperty(name = "portfolio.cluster.invalidation.enabled", havingValue = "true")
+public class InvalidationBus implements InitializingBean, DisposableBean {
+
+    static final String CHANNEL = "portfolio_invalidation";
+    static final String REVOCATION_CHANNEL = "portfolio_revocation";
+    static final String ALL = "*";
+
+    private static final Logger log = LoggerFactory.getLogger(InvalidationBus.class);
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final AtomicLong version = new AtomicLong();
+    private final Map<ChangedEntity, Set<Long>> pendingIds = new EnumMap<>(ChangedEntity.class);
+    private final Set<ChangedEntity> pendingAll = ConcurrentHashMap.newKeySet();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DataSourceProperties dataSourceProperties;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectProvider<ReplicaLagGuard> replicaLagGuard;
+    private final int maxIds;
+    private final Duration reconnectDelay;
+    private volatile boolean running = true;
+    private Thread listener;
+
+    public InvalidationBus(JdbcTemplate jdbcTemplate, DataSourceProperties dataSourceProperties,
+                           ApplicationEventPublisher eventPublisher, ObjectProvider<ReplicaLagGuard> replicaLagGuard,
+                           @Value("${portfolio.cluster.invalidation.max-ids:50}") int maxIds,
+                           @Value("${portfolio.cluster.invalidation.reconnect-delay:5s}") Duration reconnectDelay) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.dataSourceProperties = dataSourceProperties;
+        this.eventPublisher = eventPublisher;
+        this.replicaLagGuard = replicaLagGuard;
+        this.maxIds = maxIds;
+        this.reconnectDelay = reconnectDelay;
+        for (ChangedEntity entity : ChangedEntity.values()) {
+            pendingIds.put(entity, ConcurrentHashMap.newKeySet());
+        }
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        listener = Thread.ofPlatform().name("invalidation-listener").daemon().start(this::listen);
+    }
+
+    @Override
+    public void destroy() {
+        running = false;
+        listener.interrupt();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChanged(EntityChangedEvent event) {
+        if (event.remote()) {
+            return;
+        }
+        if (event.id() == null) {
+            pendingAll.add(event.entity());
+        } else {
+            Set<Long> ids = pendingIds.get(event.entity());
+            ids.add(event.id());
+            if (ids.size() > maxIds) {
+                pendingAll.add(event.entity());
+            }
+        }
+    }
+
+    @EventListener(condition = "!#event.remote")
+    public void onTokenRevoked(TokenRevokedEvent event) {
+        jdbcTemplate.query("SELECT pg_notify(?, ?)", rs -> null, REVOCATION_CHANNEL,
+                nodeId + " " + event.jti() + " " + event.expiresAtMillis());
+    }
+
+    @Scheduled(fixedDelayString = "${portfolio.cluster.invalidation.flush-interval:100ms}")
+    public void flush() {
+        StringBuilder payload = new StringBuilder();
+        for (ChangedEntity entity : ChangedEntity.values()) {
+            Set<Long> ids = pendingIds.get(entity);
+            String changed;
+            if (pendingAll.remove(entity)) {
+                ids.clear();
+                changed = ALL;
+            } else if (!ids.isEmpty()) {
+                // ids added while draining stay pending for the next flush
+                StringBuilder drained = new StringBuilder();
+                for (Long id : ids) {
+                    ids.remove(id);
+                    drained.append(drained.isEmpty() ? "" : ",").append(id);
+                }
+                changed = drained.toString();
+            } else {
+                continue;
+            }
+            payload.append(' ').append(entity).append(':').append(changed);
+        }
+        if (!payload.isEmpty()) {
+            String notification = nodeId + " " + version.incrementAndGet() + payload;
+            jdbcTemplate.query("SELECT pg_notify(?, ?)", rs -> null, CHANNEL, notification);
+        }
+    }
+
+    private void listen() {
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(dataSourceProperties.determineUrl(),
+                    dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword())) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                    statement.execute("LISTEN " + REVOCATION_CHANNEL);
+                }
+                log.info("Listening to cache invalidations of the other instances as node {}", nodeId);
+                // changes may have been missed while not listening
+                replicaLagGuard.ifAvailable(ReplicaLagGuard::markWrite);
+                for (ChangedEntity entity : ChangedEntity.values()) {
+                    eventPublisher.publishEvent(new EntityChangedEvent(entity, null, true));
+                }
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    // waits on the socket, wakes up once a second to notice the shutdown
+                    PGNotification[] notifications = pgConnection.getNotifications(1000);
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            if (REVOCATION_CHANNEL.equals(notification.getName())) {
+                                receiveRevocation(notification.getParameter());
+                            } else {
+                                receive(notification.getParameter());
+                            }
+                        }
+                    }
+                }
+            } catch (SQLException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Cache invalidation listener disconnected, reconnecting in {}: {}", reconnectDelay, e.getMessage());
+                try {
+                    Thread.sleep(reconnectDelay);
+                } catch (InterruptedException interrupted) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private void receiveRevocation(String notification) {
+        String[] parts = notification.split(" ");
+        if (parts.length != 3 || parts[0].equals(nodeId)) {
+            return;
+        }
+        try {
+            eventPublisher.publishEvent(new TokenRevokedEvent(parts[1], Long.parseLong(parts[2]), true));
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring revocation '{}' from node {}", notification, parts[0]);
+        }
+    }
+
+    private void receive(String notification) {
+        String[] parts = notification.split(" ");
+        if (parts.length < 3 || parts[0].equals(nodeId)) {
+            return;
+        }
+        log.debug("Invalidation {} from node {}: {}", parts[1], parts[0], notification);
+        replicaLagGuard.ifAvailable(ReplicaLagGuard::markWrite);
+        for (int i = 2; i < parts.length; i++) {
+            try {
+                int separator = parts[i].indexOf(':');
+                ChangedEntity entity = ChangedEntity.valueOf(parts[i].substring(0, separator));
+                String changed = parts[i].substring(separator + 1);
+                if (changed.equals(ALL)) {
+                    eventPublisher.publishEvent(new EntityChangedEvent(entity, null, true));
+                } else {
+                    for (String id : changed.split(",")) {
+                        eventPublisher.publishEvent(new EntityChangedEvent(entity, Long.valueOf(id), true));
+                    }
+                }
+            } catch (RuntimeException e) {
+                // e.g. an entity unknown to this (older) version during a rolling deployment
+                log.warn("Ignoring invalidation '{}' from node {}: {}", parts[i], parts[0], e.toString());
+            }
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.portfolio.backend.cluster;
+
+import com.portfolio.backend.configs.CacheConfiguration;
+import com.portfolio.backend.repositories.ContactUsRepository;
+import com.portfolio.backend.services.ContactUsBroadcaster;
+import com.portfolio.backend.services.SkillCatalogChangedEvent;
+import com.portfolio.backend.services.auth.TokenRevocationStore;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Applies the changes committed by the other instances (see {@link InvalidationBus}) to the local
+ * state of this one: evicts the changed skills and users and renews the catalog snapshots, and
+ * pushes new contact-us messages to the admin dashboards connected to this instance, and revokes
+ * the tokens revoked by the other instances.
+ */
+@Component
+public class RemoteChangeListener {
+
+    private final CacheManager cacheManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ContactUsRepository contactUsRepository;
+    private final ContactUsBroadcaster contactUsBroadcaster;
+    private final TokenRevocationStore revocationStore;
+
+    public RemoteChangeListener(CacheManager cacheManager, ApplicationEventPublisher eventPublisher,
+                                ContactUsRepository contactUsRepository, ContactUsBroadcaster contactUsBroadcaster,
+                                TokenRevocationStore revocationStore) {
+        this.cacheManager = cacheManager;
+        this.eventPublisher = eventPublisher;
+        this.contactUsRepository = contactUsRepository;
+        this.contactUsBroadcaster = contactUsBroadcaster;
+        this.revocationStore = revocationStore;
+    }
+
+    @EventListener(condition = "#event.remote")
+    public void onRemoteChange(EntityChangedEvent event) {
+        switch (event.entity()) {
+            case SKILL -> {
+                evict(CacheConfiguration.SKILL_CACHE, event.id());
+                evict(CacheConfiguration.SKILLS_CACHE, null);
+                eventPublisher.publishEvent(new SkillCatalogChangedEvent());
+            }
+            case CONTACT_US -> {
+                // only new messages are announced, there is nothing to replay for a lost notification
+                if (event.id() != null) {
+                    contactUsRepository.findDtoById(event.id()).ifPresent(contactUsBroadcaster::broadcast);
+                }
+            }
+            // the principals are cached by email, the id does not tell which one changed
+            case USER -> evict(CacheConfiguration.USER_PRINCIPAL_CACHE, null);
+        }
+    }
+
+    @EventListener(condition = "#event.remote")
+    public void onRemoteRevocation(TokenRevokedEvent event) {
+        revocationStore.revoke(event.jti(), event.expiresAtMillis());
+    }
+
+    private void evict(String cacheName, Long id) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) {
+            return;
+        }
+        if (id == null) {
+            cache.clear();
+        } else {
+            cache.evict(id);
+        }
+    }
+}
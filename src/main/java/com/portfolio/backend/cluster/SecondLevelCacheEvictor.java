@@ -0,0 +1,50 @@
+package com.portfolio.backend.cluster;
+
+import com.portfolio.backend.entity.Skill;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Evicts the skills from the Hibernate second-level cache when they are changed without Hibernate
+ * knowing it: by another instance, whose writes do not touch the update timestamps of this one, so
+ * the query cache is cleared as well. The bulk writes of this instance ({@code SkillJdbcRepository})
+ * are synchronized with the entity and invalidated by Hibernate itself, evicting them again here
+ * is cheap and keeps both paths identical.
+ * <p>
+ * The eviction happens after the commit. A soft-deleted skill must not stay cached:
+ * {@code findById} served from the cache does not apply the {@code deleted_at IS NULL} restriction.
+ * The services publish one event per transaction, so a bulk change clears the query region once.
+ * </p>
+ * <p>
+ * Runs before the other listeners of the change, e.g. the {@link RemoteChangeListener} which evicts
+ * the Spring caches and renews the catalog snapshot: they would reload the skills from the stale
+ * second-level cache otherwise.
+ * </p>
+ */
+@Component
+public class SecondLevelCacheEvictor {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public SecondLevelCacheEvictor(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChanged(EntityChangedEvent event) {
+        if (event.entity() != ChangedEntity.SKILL) {
+            return;
+        }
+        if (event.id() == null) {
+            entityManagerFactory.getCache().evict(Skill.class);
+        } else {
+            entityManagerFactory.getCache().evict(Skill.class, event.id());
+        }
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictDefaultQueryRegion();
+    }
+}
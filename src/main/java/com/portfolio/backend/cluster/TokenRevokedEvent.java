@@ -0,0 +1,19 @@
+package com.portfolio.backend.cluster;
+
+/**
+ * A token revoked by a logout or a refresh, published by this instance ({@code remote = false}) and
+ * by the {@link InvalidationBus} for a revocation made by another instance ({@code remote = true}).
+ *
+ * @param jti the id of the token
+ * @param expiresAtMillis the expiry of the token, epoch millis
+ * @param remote whether the token was revoked by another instance
+ */
+public record TokenRevokedEvent(String jti, long expiresAtMillis, boolean remote) {
+
+    /**
+     * A revocation made by this instance.
+     */
+    public static TokenRevokedEvent local(String jti, long expiresAtMillis) {
+        return new TokenRevokedEvent(jti, expiresAtMillis, false);
+    }
+}
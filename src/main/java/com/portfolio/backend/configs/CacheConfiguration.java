@@ -0,0 +1,90 @@
+package com.portfolio.backend.configs;
+
+import com.portfolio.backend.utils.SingleFlightCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.support.SimpleCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Read caches of the portfolio services.
+ * <p>
+ * The cache manager is transaction aware: an eviction requested inside a transaction is applied
+ * after the commit, so a concurrent reader cannot put the pre-commit state back into the cache.
+ * </p>
+ * <p>
+ * The caches are {@link SingleFlightCache}s: concurrent misses of a key share one load, expired
+ * entries are served while they are reloaded, and the TTLs ({@code portfolio.cache.*.ttl}) are
+ * jittered. The entries are also evicted explicitly on every change, the TTL only bounds how long a
+ * change missed by this instance stays visible. Their counters are published as
+ * {@code portfolio.cache.gets{cache, result}} (hit, stale, miss, coalesced) and
+ * {@code portfolio.cache.refresh.failures{cache}}.
+ * </p>
+ */
+@Configuration
+@EnableCaching
+public class CacheConfiguration {
+
+    /** All skills as returned by {@code GET /api/v0/getSkills}. */
+    public static final String SKILLS_CACHE = "skills";
+
+    /** Single skills by id. */
+    public static final String SKILL_CACHE = "skill";
+
+    /** The users authenticated by the JWT filter and the login, by email. */
+    public static final String USER_PRINCIPAL_CACHE = "user-principal";
+
+    private final List<SingleFlightCache> caches;
+
+    public CacheConfiguration(@Value("${portfolio.cache.skills.ttl:10m}") Duration skillsTtl,
+                              @Value("${portfolio.cache.skill.ttl:10m}") Duration skillTtl,
+                              @Value("${portfolio.cache.user-principal.ttl:5m}") Duration userPrincipalTtl,
+                              @Value("${portfolio.cache.ttl-jitter:0.1}") double jitter,
+                              @Value("${portfolio.cache.stale-while-revalidate:30s}") Duration staleWhileRevalidate) {
+        this.caches = List.of(
+                new SingleFlightCache(SKILLS_CACHE, skillsTtl, jitter, staleWhileRevalidate),
+                new SingleFlightCache(SKILL_CACHE, skillTtl, jitter, staleWhileRevalidate),
+                new SingleFlightCache(USER_PRINCIPAL_CACHE, userPrincipalTtl, jitter, staleWhileRevalidate));
+    }
+
+    @Bean
+    public CacheManager cacheManager() {
+        SimpleCacheManager cacheManager = new SimpleCacheManager();
+        cacheManager.setCaches(caches);
+        cacheManager.initializeCaches();
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+
+    @Bean
+    public MeterBinder singleFlightCacheMetrics() {
+        return registry -> {
+            for (SingleFlightCache cache : caches) {
+                gets(registry, cache, "hit", SingleFlightCache::getHits);
+                gets(registry, cache, "stale", SingleFlightCache::getStaleHits);
+                gets(registry, cache, "miss", SingleFlightCache::getMisses);
+                gets(registry, cache, "coalesced", SingleFlightCache::getCoalesced);
+                FunctionCounter.builder("portfolio.cache.refresh.failures", cache, SingleFlightCache::getRefreshFailures)
+                        .tag("cache", cache.getName())
+                        .description("Background reloads of expired entries that failed")
+                        .register(registry);
+            }
+        };
+    }
+
+    private static void gets(MeterRegistry registry, SingleFlightCache cache,
+                             String result, ToDoubleFunction<SingleFlightCache> count) {
+        FunctionCounter.builder("portfolio.cache.gets", cache, count)
+                .tags("cache", cache.getName(), "result", result)
+                .register(registry);
+    }
+}
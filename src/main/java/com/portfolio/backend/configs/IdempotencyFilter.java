@@ -0,0 +1,194 @@
+package com.portfolio.backend.configs;
+
+import com.portfolio.backend.services.idempotency.IdempotencyRecord;
+import com.portfolio.backend.services.idempotency.IdempotencyReservation;
+import com.portfolio.backend.services.idempotency.IdempotencyStore;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.Principal;
+import java.util.HexFormat;
+import java.util.Set;
+
+/**
+ * Makes the POST endpoints listed in {@code portfolio.idempotency.paths} safe to retry: a request
+ * carrying an {@code Idempotency-Key} header is processed once, its retries get the recorded
+ * response (marked {@code Idempotent-Replayed: true}) without signing up, inserting or hashing a
+ * password again.
+ * <p>
+ * Keys are scoped to the endpoint and the authenticated user. A retry whose body differs from the
+ * first request is rejected with 422, a retry arriving while the first request is still processed
+ * with 409. Only successful responses are recorded: after an error the key is released and a retry
+ * is processed again. Runs after the security filters, a replay still needs the credentials of the
+ * first request.
+ * </p>
+ */
+@Component
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+    static final String REPLAYED = "Idempotent-Replayed";
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final IdempotencyStore store;
+    private final Set<String> paths;
+    private final int maxBodySize;
+
+    public IdempotencyFilter(IdempotencyStore store,
+                             @Value("${portfolio.idempotency.paths:/api/auth/signup,/api/auth/contact-us,/api/v0/post-skill}") Set<String> paths,
+                             @Value("${portfolio.idempotency.max-body-size:65536}") int maxBodySize) {
+        this.store = store;
+        this.paths = paths;
+        this.maxBodySize = maxBodySize;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"POST".equals(request.getMethod()) || request.getHeader(IDEMPOTENCY_KEY) == null
+                || !paths.contains(request.getServletPath());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String idempotencyKey = request.getHeader(IDEMPOTENCY_KEY);
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            response.sendError(HttpStatus.BAD_REQUEST.value(), "Invalid " + IDEMPOTENCY_KEY);
+            return;
+        }
+        byte[] body = request.getInputStream().readNBytes(maxBodySize + 1);
+        if (body.length > maxBodySize) {
+            response.sendError(HttpStatus.PAYLOAD_TOO_LARGE.value());
+            return;
+        }
+
+        Principal principal = request.getUserPrincipal();
+        String key = request.getServletPath() + ' ' + (principal == null ? "" : principal.getName()) + ' ' + idempotencyKey;
+        String fingerprint = sha256(body);
+        IdempotencyReservation reservation = store.reserve(key, fingerprint);
+        if (!reservation.isReserved()) {
+            replay(reservation.recorded(), fingerprint, response);
+            return;
+        }
+
+        ContentCachingResponseWrapper cachingResponse = new ContentCachingResponseWrapper(response);
+        boolean completed = false;
+        try {
+            filterChain.doFilter(new BufferedBodyRequest(request, body), cachingResponse);
+            int status = cachingResponse.getStatus();
+            if (status >= 200 && status < 300) {
+                store.complete(key, reservation.owner(), new IdempotencyRecord(fingerprint, status, cachingResponse.getContentType(),
+                        cachingResponse.getContentAsByteArray()));
+                completed = true;
+            }
+        } finally {
+            if (!completed) {
+                store.release(key, reservation.owner());
+            }
+            cachingResponse.copyBodyToResponse();
+        }
+    }
+
+    private static void replay(IdempotencyRecord recorded, String fingerprint, HttpServletResponse response) throws IOException {
+        if (!recorded.fingerprint().equals(fingerprint)) {
+            response.sendError(HttpStatus.UNPROCESSABLE_ENTITY.value(), IDEMPOTENCY_KEY + " already used for another request");
+        } else if (recorded.isInProgress()) {
+            response.sendError(HttpStatus.CONFLICT.value(), "A request with this " + IDEMPOTENCY_KEY + " is still processed");
+        } else {
+            response.setStatus(recorded.status());
+            if (recorded.contentType() != null) {
+                response.setContentType(recorded.contentType());
+            }
+            response.setHeader(REPLAYED, "true");
+            response.setContentLength(recorded.body().length);
+            response.getOutputStream().write(recorded.body());
+        }
+    }
+
+    private static String sha256(byte[] body) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * The request with its body read once by the filter, served again to the controller.
+     */
+    private static final class BufferedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        private BufferedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public int read() {
+                    return in.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return in.read(b, off, len);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    throw new UnsupportedOperationException();
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(getInputStream(),
+                    encoding == null ? StandardCharsets.UTF_8 : Charset.forName(encoding)));
+        }
+
+        @Override
+        public int getContentLength() {
+            return body.length;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return body.length;
+        }
+    }
+}
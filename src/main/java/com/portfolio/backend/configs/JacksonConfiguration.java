@@ -0,0 +1,35 @@
+package com.portfolio.backend.configs;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.util.JsonRecyclerPools;
+import com.fasterxml.jackson.databind.Module;
+import com.portfolio.backend.utils.DtoJsonModule;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Serialization settings of the application {@code ObjectMapper} (responses, catalog snapshots,
+ * outbox payloads, server-sent events).
+ * <p>
+ * The hot DTOs get hand-written serializers ({@link DtoJsonModule}, registered by Spring Boot as a
+ * {@link Module} bean). The generators write into buffers recycled through a pool shared by all
+ * threads: the default pool is kept per thread, and with virtual threads (one per request) a buffer
+ * would never be reused, every response would allocate new ones.
+ * </p>
+ */
+@Configuration
+public class JacksonConfiguration {
+
+    @Bean
+    public Module dtoJsonModule() {
+        return new DtoJsonModule();
+    }
+
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer sharedBufferRecyclerCustomizer() {
+        return builder -> builder.factory(JsonFactory.builder()
+                .recyclerPool(JsonRecyclerPools.sharedConcurrentDequePool())
+                .build());
+    }
+}
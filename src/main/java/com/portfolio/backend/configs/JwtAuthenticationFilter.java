@@ -1,6 +1,9 @@
 package com.portfolio.backend.configs;
 
 import java.io.IOException;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContext;
@@ -13,6 +16,7 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
@@ -33,12 +37,23 @@ import com.portfolio.backend.utils.JwtUtil;
  * it creates a new authentication token and sets it into the {@link SecurityContextHolder} for the
  * current request thread, enabling subsequent access to the authenticated user in the security context.
  * </p>
+ * <p>
+ * A browser cannot set the header on a page navigation, a form post or an {@code EventSource}: the
+ * server side rendered admin pages ({@code /admin/**}) also accept the token from the
+ * {@value #ADMIN_TOKEN_COOKIE} cookie set by the admin login page (see
+ * {@link com.portfolio.backend.controller.AdminLoginController}). The cookie is ignored on any other path.
+ * </p>
  */
 
 @Component
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter{
 
+    /**
+     * HttpOnly, SameSite=Strict cookie holding the access token of an admin browser session.
+     */
+    public static final String ADMIN_TOKEN_COOKIE = "portfolio_admin";
+
     private final JwtUtil jwtUtil;
     private final UserService userService;
 
@@ -58,21 +73,28 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter{
             throws ServletException, IOException {
 
 
-        // Extract the "Authorization" header from the request
-        final String authHeader = request.getHeader("Authorization");
+        // Extract the token from the "Authorization" header, or from the admin cookie on the admin pages
+        final String jwt = extractToken(request);
 
-        // If the header is empty or does not start with "Bearer", proceed with the filter chain
-        if(StringUtils.isEmpty(authHeader) || !StringUtils.startsWith(authHeader, "Bearer ")){
+        // Without a token, proceed with the filter chain unauthenticated
+        if(StringUtils.isEmpty(jwt)){
             filterChain.doFilter(request, response);
             return;
         }
-        final String jwt;
-        jwt = authHeader.substring(7);
-        final String userEmail;
-        userEmail = jwtUtil.extractUserName(jwt);
+        // one signature verification per request, the claims are checked below
+        final Claims claims;
+        try {
+            claims = jwtUtil.parseToken(jwt);
+        } catch (JwtException e) {
+            // expired (access tokens are short-lived) or forged: continue unauthenticated,
+            // protected endpoints answer 401/403 and the client refreshes its token
+            filterChain.doFilter(request, response);
+            return;
+        }
+        final String userEmail = claims.getSubject();
         if(StringUtils.isNotEmpty(userEmail) && SecurityContextHolder.getContext().getAuthentication() == null){
             UserDetails userDetails = userService.userDetailsService().loadUserByUsername(userEmail);
-            if(jwtUtil.isTokenValid(jwt, userDetails)){
+            if(jwtUtil.isTokenValid(claims, userDetails)){
                 SecurityContext context = SecurityContextHolder.createEmptyContext();
 
                 UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
@@ -84,4 +106,18 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter{
         filterChain.doFilter(request, response);
     }
 
+    private static String extractToken(HttpServletRequest request){
+        final String authHeader = request.getHeader("Authorization");
+        if(StringUtils.startsWith(authHeader, "Bearer ")){
+            return authHeader.substring(7);
+        }
+        if(request.getCookies() != null && request.getServletPath().startsWith("/admin/")){
+            for(Cookie cookie : request.getCookies()){
+                if(ADMIN_TOKEN_COOKIE.equals(cookie.getName())){
+                    return cookie.getValue();
+                }
+            }
+        }
+        return null;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,80 @@
+package com.portfolio.backend.configs;
+
+import com.portfolio.backend.dtos.ContactUsFormularDto;
+import com.portfolio.backend.dtos.SkillDto;
+import com.portfolio.backend.entity.ContactUsFormular;
+import com.portfolio.backend.entity.Education;
+import com.portfolio.backend.entity.Experience;
+import com.portfolio.backend.entity.Skill;
+import com.portfolio.backend.entity.Technologies;
+import com.portfolio.backend.entity.User;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Reachability metadata for the GraalVM native image ({@code ./mvnw -Pnative native:compile}).
+ * <p>
+ * Spring AOT already covers the beans, the JPA managed types and the request/response bodies of
+ * the controllers. This adds what it cannot see: the DTOs serialized by hand (catalog snapshots,
+ * outbox payloads, server-sent events), reflective access to the entities, the templates, and the
+ * classes that jjwt and simpleicons4j instantiate by name.
+ * </p>
+ */
+@Configuration
+@ImportRuntimeHints(NativeImageConfiguration.PortfolioRuntimeHints.class)
+@RegisterReflectionForBinding({SkillDto.class, ContactUsFormularDto.class, Technologies.Technology.class})
+public class NativeImageConfiguration {
+
+    static class PortfolioRuntimeHints implements RuntimeHintsRegistrar {
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            for (Class<?> entity : new Class<?>[]{Skill.class, User.class, ContactUsFormular.class, Education.class, Experience.class}) {
+                hints.reflection().registerType(entity, MemberCategory.values());
+            }
+            hints.resources().registerPattern("templates/**/*.html");
+            hints.resources().registerPattern("db/migration/*.sql");
+            hints.resources().registerPattern("ehcache.xml");
+
+            // loaded with Class.forName / ServiceLoader: the implementations behind Jwts, Jwks and the
+            // Jackson (de)serializer of jjwt-jackson, and one class per simpleicons icon
+            hints.resources().registerPattern("META-INF/services/io.jsonwebtoken.*");
+            registerClasses(hints, classLoader, "io/jsonwebtoken/impl");
+            registerClasses(hints, classLoader, "io/jsonwebtoken/jackson");
+            registerClasses(hints, classLoader, "org/silentsoft/simpleicons");
+        }
+
+        /**
+         * Scans the package on the build classpath and registers the constructors and methods of
+         * every class; the listing is only needed at build time.
+         */
+        private static void registerClasses(RuntimeHints hints, ClassLoader classLoader, String packagePath) {
+            try {
+                Resource[] classes = new PathMatchingResourcePatternResolver(classLoader)
+                        .getResources("classpath*:" + packagePath + "/**/*.class");
+                for (Resource resource : classes) {
+                    String path = resource.getURL().toString();
+                    String className = path.substring(path.lastIndexOf(packagePath), path.length() - ".class".length())
+                            .replace('/', '.');
+                    if (className.endsWith("-info")) {
+                        continue;
+                    }
+                    hints.reflection().registerType(TypeReference.of(className),
+                            MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
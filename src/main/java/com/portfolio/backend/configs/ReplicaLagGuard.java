@@ -0,0 +1,63 @@
+package com.portfolio.backend.configs;
+
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * Bounds the replica lag seen by readers after a write.
+ * <p>
+ * Registered as a transaction listener, it remembers when the last read-write transaction committed.
+ * For {@code max-lag} after that commit read-only transactions stay on the primary, so a skill or a
+ * user is readable right after {@code createSkill}/{@code createUser} even if the replica has not
+ * replayed the write yet. Writes are rare on a portfolio, so a global window costs almost nothing.
+ * </p>
+ * <p>
+ * A write committed by another instance is announced through {@link #markWrite()} (see
+ * {@link com.portfolio.backend.cluster.InvalidationBus}) before the caches are evicted, so that the
+ * reloads it triggers do not read the old rows from the replica.
+ * </p>
+ */
+public class ReplicaLagGuard implements TransactionExecutionListener {
+
+    private final long maxLagNanos;
+    private final LongSupplier nanoTime;
+    private volatile long lastWriteNanos;
+
+    public ReplicaLagGuard(Duration maxLag) {
+        this(maxLag, System::nanoTime);
+    }
+
+    /**
+     * @param nanoTime the monotonic clock, {@link System#nanoTime()} outside of tests
+     */
+    ReplicaLagGuard(Duration maxLag, LongSupplier nanoTime) {
+        this.maxLagNanos = maxLag.toNanos();
+        this.nanoTime = nanoTime;
+        this.lastWriteNanos = nanoTime.getAsLong() - maxLagNanos;
+    }
+
+    @Override
+    public void afterCommit(TransactionExecution transaction, @Nullable Throwable commitFailure) {
+        if (commitFailure == null && !transaction.isReadOnly()) {
+            markWrite();
+        }
+    }
+
+    /**
+     * Keeps the reads on the primary for {@code max-lag} from now, e.g. after a write committed by another instance.
+     */
+    public void markWrite() {
+        lastWriteNanos = nanoTime.getAsLong();
+    }
+
+    /**
+     * @return true if the last write committed longer than {@code max-lag} ago
+     */
+    public boolean isReplicaCaughtUp() {
+        return nanoTime.getAsLong() - lastWriteNanos >= maxLagNanos;
+    }
+}
@@ -0,0 +1,74 @@
+package com.portfolio.backend.configs;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Sends read-only transactions to a replica pool and everything else to the primary pool.
+ * <p>
+ * Only active when {@code portfolio.datasource.replica.jdbc-url} is set, otherwise the
+ * auto-configured single pool of {@code spring.datasource} is used. The primary pool keeps the
+ * {@code spring.datasource} / {@code spring.datasource.hikari} settings, the replica pool is
+ * configured with the hikari properties under {@code portfolio.datasource.replica}.
+ * </p>
+ * <p>
+ * The application data source is a {@link LazyConnectionDataSourceProxy}: the physical connection
+ * is fetched on the first statement, after the transaction manager flagged the connection as read
+ * only for {@code @Transactional(readOnly = true)}, so the proxy can still pick the pool.
+ * </p>
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "portfolio.datasource.replica", name = "jdbc-url")
+public class ReplicaRoutingConfiguration {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("portfolio.datasource.replica")
+    public HikariDataSource replicaDataSource() {
+        HikariDataSource dataSource = DataSourceBuilder.create().type(HikariDataSource.class).build();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    /**
+     * Picked up by the auto-configured transaction manager as a transaction execution listener.
+     */
+    @Bean
+    public ReplicaLagGuard replicaLagGuard(@Value("${portfolio.datasource.replica.max-lag:2s}") Duration maxLag) {
+        return new ReplicaLagGuard(maxLag);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                 ReplicaLagGuard replicaLagGuard) {
+        return routingDataSource(primaryDataSource, replicaDataSource, replicaLagGuard);
+    }
+
+    static DataSource routingDataSource(DataSource primary, DataSource replica, ReplicaLagGuard replicaLagGuard) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primary);
+        dataSource.setReadOnlyDataSource(new ReplicaRoutingDataSource(primary, replica, replicaLagGuard));
+        return dataSource;
+    }
+}
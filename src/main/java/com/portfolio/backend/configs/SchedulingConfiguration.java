@@ -0,0 +1,17 @@
+package com.portfolio.backend.configs;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Runs the {@code @Scheduled} methods of the application: the notification outbox dispatcher and
+ * purge, the flush of the cluster invalidation bus and the purge of the jdbc idempotency store.
+ * <p>
+ * Enabled here once rather than on the components: each of them is conditional on its own property,
+ * and a scheduled method must not stop running because another, unrelated component is switched off.
+ * </p>
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfiguration {
+}
@@ -0,0 +1,50 @@
+package com.portfolio.backend.configs;
+
+import org.apache.coyote.UpgradeProtocol;
+import org.apache.coyote.http11.Http11Nio2Protocol;
+import org.apache.coyote.http2.Http2Protocol;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatConnectorCustomizer;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Connector settings of the embedded Tomcat that have no {@code server.tomcat.*} property.
+ * <p>
+ * Only active when {@code portfolio.server.tomcat.tuning=true} (production profile). The
+ * connector then uses the NIO2 protocol, whose completion handlers replace the NIO poller thread,
+ * and the HTTP/2 upgrade protocol added by {@code server.http2.enabled} (h2c when TLS is
+ * terminated by the proxy) gets its stream limits and timeouts from {@code portfolio.server.http2.*}.
+ * HTTP/2 lets the front-end multiplex its many small parallel requests (skills, skill details,
+ * icons) over a single connection.
+ * </p>
+ */
+@Configuration
+@ConditionalOnProperty(name = "portfolio.server.tomcat.tuning", havingValue = "true")
+public class TomcatTuningConfiguration {
+
+    @Bean
+    public WebServerFactoryCustomizer<TomcatServletWebServerFactory> nio2ProtocolCustomizer() {
+        return factory -> factory.setProtocol(Http11Nio2Protocol.class.getName());
+    }
+
+    @Bean
+    public TomcatConnectorCustomizer http2ConnectorCustomizer(
+            @Value("${portfolio.server.http2.max-concurrent-streams:128}") int maxConcurrentStreams,
+            @Value("${portfolio.server.http2.keep-alive-timeout:20s}") Duration keepAliveTimeout) {
+        return connector -> {
+            for (UpgradeProtocol upgradeProtocol : connector.findUpgradeProtocols()) {
+                if (upgradeProtocol instanceof Http2Protocol http2) {
+                    http2.setMaxConcurrentStreams(maxConcurrentStreams);
+                    http2.setMaxConcurrentStreamExecution(maxConcurrentStreams);
+                    http2.setKeepAliveTimeout(keepAliveTimeout.toMillis());
+                }
+            }
+        };
+    }
+}
@@ -1,18 +1,33 @@
 package com.portfolio.backend.configs;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
-import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.Http403ForbiddenEntryPoint;
+import org.springframework.security.web.authentication.LoginUrlAuthenticationEntryPoint;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.csrf.CookieCsrfTokenRepository;
+import org.springframework.security.web.csrf.CsrfFilter;
+import org.springframework.security.web.csrf.CsrfToken;
+import org.springframework.security.web.csrf.XorCsrfTokenRequestAttributeHandler;
+import org.springframework.security.web.servlet.util.matcher.PathPatternRequestMatcher;
+import org.springframework.security.web.util.matcher.AndRequestMatcher;
+import org.springframework.security.web.util.matcher.AnyRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+
+import java.util.function.Supplier;
 
 
 //import jakarta.annotation.PostConstruct;
@@ -25,7 +40,7 @@ import com.portfolio.backend.services.userService.UserService;
  * It integrates Spring Security to handle authentication and authorization of requests.
  * The configuration defines HTTP security settings, including:
  * <ul>
- *   <li>Disabling CSRF protection (since the application uses stateless authentication)</li>
+ *   <li>Requiring a CSRF token for the forms of the admin pages, the only requests authenticated by a cookie</li>
  *   <li>Specifying which API endpoints are publicly accessible and which require authentication</li>
  *   <li>Configuring session management to be stateless (no session is created or maintained)</li>
  *   <li>Configuring a custom authentication provider with BCrypt password encoding</li>
@@ -43,6 +58,14 @@ import com.portfolio.backend.services.userService.UserService;
 @EnableWebSecurity
 @RequiredArgsConstructor
 public class WebSecurityConfiguration {
+
+    /**
+     * Holds the CSRF token of the admin pages (HttpOnly, SameSite=Strict, limited to {@code /admin}).
+     */
+    public static final String ADMIN_CSRF_COOKIE = "XSRF-TOKEN";
+
+    private static final RequestMatcher ADMIN_PAGES = PathPatternRequestMatcher.withDefaults().matcher("/admin/**");
+
     private final UserService userService;
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
 
@@ -51,22 +74,46 @@ public class WebSecurityConfiguration {
      * <p>
      * This method:
      * <ul>
-     *   <li>Disables CSRF protection as it's unnecessary in stateless applications.</li>
+     *   <li>Requires a CSRF token for the state changing requests of the {@code /admin/**} pages: the browser
+     *   sends their admin cookie on its own. The token is kept in the {@value #ADMIN_CSRF_COOKIE} cookie, no
+     *   session is needed, and Thymeleaf adds it to every {@code th:action} form. The api is authenticated by
+     *   the {@code Authorization} header only and needs no token.</li>
      *   <li>Permits access to `/api/auth/**` endpoints (public access).</li>
+     *   <li>Permits access to the public signing keys at `/.well-known/jwks.json`.</li>
+     *   <li>Requires the ADMIN role for the skill catalog writes `/api/v0/post-skills`, `/api/v0/delete-skill/{id}`
+     *   and `/api/v0/delete-skills`, the rest of `/api/v0/**` is public.</li>
+     *   <li>Permits the admin login page `/admin/login`, the other `/admin/**` pages require the ADMIN role and
+     *   send an unauthenticated browser to the login page (the token is then read from the admin cookie,
+     *   see {@link JwtAuthenticationFilter}).</li>
+     *   <li>Permits the health check, the other actuator endpoints (metrics) require the ADMIN role.</li>
      *   <li>Requires authentication for any other request.</li>
      *   <li>Configures session management to be stateless, meaning no HTTP sessions are used.</li>
      *   <li>Registers a JWT authentication filter to validate incoming JWT tokens before the request reaches other filters.</li>
      * </ul>
      *  @param http the HTTP security configuration object
+     * @param secureCookie whether the CSRF cookie is only sent over https, as the admin cookie
      * @return the configured {@link SecurityFilterChain} for the application
      * @throws Exception if an error occurs during configuration
      */
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http,
+                                                   @Value("${portfolio.admin.secure-cookie:true}") boolean secureCookie) throws Exception {
+        CookieCsrfTokenRepository csrfTokenRepository = new CookieCsrfTokenRepository();
+        csrfTokenRepository.setCookieName(ADMIN_CSRF_COOKIE);
+        csrfTokenRepository.setCookiePath("/admin");
+        csrfTokenRepository.setCookieCustomizer(cookie -> cookie.sameSite("Strict").secure(secureCookie));
 
-        http.csrf(AbstractHttpConfigurer::disable).authorizeHttpRequests(request ->
+        http.csrf(csrf -> csrf
+                        .csrfTokenRepository(csrfTokenRepository)
+                        .csrfTokenRequestHandler(new AdminCsrfTokenRequestHandler())
+                        .requireCsrfProtectionMatcher(new AndRequestMatcher(CsrfFilter.DEFAULT_CSRF_MATCHER, ADMIN_PAGES)))
+                .authorizeHttpRequests(request ->
                         request
                                 .requestMatchers("/api/auth/**").permitAll()
+                                .requestMatchers("/.well-known/jwks.json").permitAll()
+                                // bulk writes of the skill catalog, admin tooling despite their public prefix
+                                .requestMatchers(HttpMethod.POST, "/api/v0/post-skills").hasRole("ADMIN")
+                                .requestMatchers(HttpMethod.DELETE, "/api/v0/delete-skill/*", "/api/v0/delete-skills").hasRole("ADMIN")
                                 .requestMatchers("/api/v0/**").permitAll()
                                 .requestMatchers(
                                         "/swagger-ui.html",
@@ -74,14 +121,23 @@ public class WebSecurityConfiguration {
                                         "/swagger-ui/index.html",
                                         "/v3/api-docs/**",
                                         "/api-docs/**",
+                                        "/openapi.json",
                                         "/webjars/**",
                                         "/error",
                                         "/swagger-resources/**",
                                         "/favicon.ico").permitAll()
                                 .requestMatchers("/").permitAll()
                                 .requestMatchers("/api/admin/**").hasRole("ADMIN")
+                                .requestMatchers("/admin/login").permitAll()
+                                .requestMatchers("/admin/**").hasRole("ADMIN")
+                                .requestMatchers("/actuator/health").permitAll()
+                                .requestMatchers("/actuator/**").hasRole("ADMIN")
                                 .anyRequest().authenticated()
                 )
+                // the api keeps answering 403 without a token
+                .exceptionHandling(exceptions -> exceptions
+                        .defaultAuthenticationEntryPointFor(new LoginUrlAuthenticationEntryPoint("/admin/login"), ADMIN_PAGES)
+                        .defaultAuthenticationEntryPointFor(new Http403ForbiddenEntryPoint(), AnyRequestMatcher.INSTANCE))
                 .sessionManagement(manager -> manager.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authenticationProvider(authenticationProvider()).addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
 
@@ -116,4 +172,20 @@ public class WebSecurityConfiguration {
 
         return authProvider;
     }
-}
\ No newline at end of file
+
+    /**
+     * Creates the CSRF token of an admin page before the page is rendered: the pages are streamed, the
+     * cookie could not be added anymore once the form is reached. The other requests never touch the
+     * token, their responses get no cookie.
+     */
+    private static final class AdminCsrfTokenRequestHandler extends XorCsrfTokenRequestAttributeHandler {
+
+        @Override
+        public void handle(HttpServletRequest request, HttpServletResponse response, Supplier<CsrfToken> csrfToken) {
+            super.handle(request, response, csrfToken);
+            if (ADMIN_PAGES.matches(request)) {
+                csrfToken.get();
+            }
+        }
+    }
+}
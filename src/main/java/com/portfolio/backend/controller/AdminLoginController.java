@@ -0,0 +1,91 @@
+package com.portfolio.backend.controller;
+
+import com.portfolio.backend.configs.JwtAuthenticationFilter;
+import com.portfolio.backend.dtos.AuthenticationRequest;
+import com.portfolio.backend.services.auth.AuthService;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.CookieValue;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.time.Duration;
+
+/**
+ * Browser login of the server side rendered admin pages ({@code /admin/**}).
+ * <p>
+ * The login form posts the credentials, the access token issued for them is stored in the
+ * {@value JwtAuthenticationFilter#ADMIN_TOKEN_COOKIE} cookie: HttpOnly (not readable by scripts),
+ * SameSite=Strict (not sent by requests started from another site) and limited to {@code /admin}.
+ * The forms of the admin pages also carry a CSRF token (see {@link com.portfolio.backend.configs.WebSecurityConfiguration}),
+ * the login form included. The session lasts as long as the access token
+ * ({@code portfolio.jwt.access-token-ttl}), the login page is shown again afterwards. Whether the
+ * user may see the pages is still decided by its role (ADMIN).
+ * </p>
+ */
+@Controller
+@RequestMapping("/admin")
+public class AdminLoginController {
+
+    private static final String COOKIE_PATH = "/admin";
+    private static final Logger log = LoggerFactory.getLogger(AdminLoginController.class);
+
+    private final AuthService authService;
+    private final Duration accessTokenTtl;
+    private final boolean secureCookie;
+
+    public AdminLoginController(AuthService authService,
+                                @Value("${portfolio.jwt.access-token-ttl:15m}") Duration accessTokenTtl,
+                                @Value("${portfolio.admin.secure-cookie:true}") boolean secureCookie) {
+        this.authService = authService;
+        this.accessTokenTtl = accessTokenTtl;
+        this.secureCookie = secureCookie;
+    }
+
+    @GetMapping("/login")
+    public String showLoginForm() {
+        return "admin/login";
+    }
+
+    @PostMapping("/login")
+    public String login(@RequestParam String email, @RequestParam String password, HttpServletResponse response) {
+        AuthenticationRequest authenticationRequest = new AuthenticationRequest();
+        authenticationRequest.setEmail(email);
+        authenticationRequest.setPassword(password);
+        String jwt;
+        try {
+            jwt = authService.authenticate(authenticationRequest).getJwt();
+        } catch (AuthenticationException e) {
+            log.info("Admin login refused: {}", e.getMessage());
+            return "redirect:/admin/login?error";
+        }
+        response.addHeader(HttpHeaders.SET_COOKIE, cookie(jwt, accessTokenTtl).toString());
+        return "redirect:/admin/skills/list";
+    }
+
+    @PostMapping("/logout")
+    public String logout(@CookieValue(name = JwtAuthenticationFilter.ADMIN_TOKEN_COOKIE, required = false) String jwt,
+                         HttpServletResponse response) {
+        authService.logout(jwt, null);
+        response.addHeader(HttpHeaders.SET_COOKIE, cookie("", Duration.ZERO).toString());
+        return "redirect:/admin/login?logout";
+    }
+
+    private ResponseCookie cookie(String value, Duration maxAge) {
+        return ResponseCookie.from(JwtAuthenticationFilter.ADMIN_TOKEN_COOKIE, value)
+                .httpOnly(true)
+                .secure(secureCookie)
+                .sameSite("Strict")
+                .path(COOKIE_PATH)
+                .maxAge(maxAge)
+                .build();
+    }
+}
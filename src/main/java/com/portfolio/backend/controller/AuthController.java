@@ -2,13 +2,16 @@ package com.portfolio.backend.controller;
 
 import com.portfolio.backend.dtos.AuthenticationRequest;
 import com.portfolio.backend.dtos.AuthenticationResponse;
+import com.portfolio.backend.dtos.RefreshTokenRequest;
 import com.portfolio.backend.dtos.SignupRequest;
 import com.portfolio.backend.dtos.UserDto;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -23,6 +26,8 @@ import com.portfolio.backend.services.auth.AuthService;
  * <ul>
  *   <li><b>/signup</b>: Registers a new user in the system by accepting a signup request.</li>
  *   <li><b>/login</b>: Authenticates a user by accepting login credentials and returns an authentication token.</li>
+ *   <li><b>/refresh</b>: Exchanges a refresh token for a new token pair.</li>
+ *   <li><b>/logout</b>: Revokes the tokens of the session.</li>
  * </ul>
  * The controller interacts with the {@link AuthService} to perform user registration and authentication logic.
  */
@@ -71,4 +76,36 @@ public class AuthController {
         logger.info("Trying to authenticate user with email: ");
         return authService.authenticate(authenticationRequest);
     }
+
+    /**
+     * Exchanges a refresh token for a new access token and a new refresh token.
+     * The refresh token passed in is revoked, it cannot be used a second time.
+     *
+     * @param refreshTokenRequest the request containing the refresh token
+     * @return the new tokens with a 200 status code, or a 401 status code if the refresh token is not valid
+     */
+    @PostMapping("/refresh")
+    public ResponseEntity<?> refreshToken(@RequestBody RefreshTokenRequest refreshTokenRequest){
+        try{
+            return ResponseEntity.ok(authService.refresh(refreshTokenRequest.getRefreshToken()));
+        }catch(BadCredentialsException e){
+            logger.info("Refresh refused: {} with status:{}", e.getMessage(), HttpStatus.UNAUTHORIZED);
+            return new ResponseEntity<>(e.getMessage(), HttpStatus.UNAUTHORIZED);
+        }
+    }
+
+    /**
+     * Revokes the access token of the "Authorization" header and the refresh token of the body.
+     *
+     * @param authorization the "Authorization" header, optional
+     * @param refreshTokenRequest the request containing the refresh token, optional
+     * @return a 204 status code
+     */
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@RequestHeader(value = "Authorization", required = false) String authorization,
+                                       @RequestBody(required = false) RefreshTokenRequest refreshTokenRequest){
+        String accessToken = authorization != null && authorization.startsWith("Bearer ") ? authorization.substring(7) : null;
+        authService.logout(accessToken, refreshTokenRequest == null ? null : refreshTokenRequest.getRefreshToken());
+        return ResponseEntity.noContent().build();
+    }
 }
\ No newline at end of file
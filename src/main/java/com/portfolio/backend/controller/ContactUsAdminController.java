@@ -0,0 +1,55 @@
+package com.portfolio.backend.controller;
+
+import com.portfolio.backend.repositories.ContactUsRepository;
+import com.portfolio.backend.services.ContactUsBroadcaster;
+import com.portfolio.backend.utils.StreamingTemplateRenderer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Map;
+
+/**
+ * Server side rendered admin page of the contact-us messages.
+ * <p>
+ * The messages are streamed from the database into the response while the page is rendered
+ * (see {@link StreamingTemplateRenderer}), so the browser shows the first rows right away and
+ * memory stays flat however many messages there are. New messages are then pushed through
+ * {@code /stream} instead of reloading the list.
+ * </p>
+ */
+@Controller
+@RequestMapping("/admin/contact-us")
+@RequiredArgsConstructor
+public class ContactUsAdminController {
+
+    private final ContactUsRepository contactUsRepository;
+    private final StreamingTemplateRenderer renderer;
+    private final ContactUsBroadcaster broadcaster;
+
+    @GetMapping("/list")
+    public void getContactUs(HttpServletRequest request, HttpServletResponse response) {
+        renderer.render("contact-us/list_contact_us", "messages", contactUsRepository::streamAllDtos, Map.of(),
+                request, response);
+    }
+
+    /**
+     * Server-sent events stream of the messages committed from now on, one {@code contact-us} event
+     * (JSON data) per message. The stream is closed when the client cannot keep up; it should then
+     * reconnect and reload the list.
+     * <p>
+     * An {@code EventSource} cannot set the {@code Authorization} header: the list page opens the
+     * stream with the admin login cookie (see {@link AdminLoginController}), sent by the browser on
+     * every {@code /admin} request. Other clients may still use the header.
+     * </p>
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamContactUs() {
+        return broadcaster.subscribe();
+    }
+}
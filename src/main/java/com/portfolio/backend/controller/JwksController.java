@@ -0,0 +1,35 @@
+package com.portfolio.backend.controller;
+
+import com.portfolio.backend.utils.JwtKeyRing;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+
+/**
+ * Publishes the public keys of the {@link JwtKeyRing} as a JWK set, so that other services can
+ * verify portfolio tokens without calling this application.
+ */
+@RestController
+@RequiredArgsConstructor
+public class JwksController {
+
+    private final JwtKeyRing keyRing;
+
+    /**
+     * Returns the JWK set serialized at startup. Clients may cache it for an hour and should
+     * fetch it again when they meet an unknown {@code kid}.
+     *
+     * @return the public JWK set
+     */
+    @GetMapping(value = "/.well-known/jwks.json", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> jwks() {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(Duration.ofHours(1)).cachePublic())
+                .body(keyRing.getJwks());
+    }
+}
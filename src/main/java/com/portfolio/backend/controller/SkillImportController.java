@@ -0,0 +1,93 @@
+package com.portfolio.backend.controller;
+
+import com.portfolio.backend.batch.SkillImportJobConfiguration;
+import com.portfolio.backend.batch.SkillImportLauncher;
+import com.portfolio.backend.dtos.SkillImportResultDto;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionException;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.repository.JobExecutionAlreadyRunningException;
+import org.springframework.batch.core.repository.JobInstanceAlreadyCompleteException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.net.URI;
+import java.time.Duration;
+
+/**
+ * Launches the bulk skill import batch job (see {@link SkillImportJobConfiguration}).
+ * The import runs in the background, its progress and counters are read from the execution it returned.
+ * Calling the endpoint again with the same input restarts a failed import from its last commit.
+ */
+@RestController
+@RequestMapping("/api/admin/skills")
+@RequiredArgsConstructor
+public class SkillImportController {
+
+    private static final String IMPORT_PATH = "/api/admin/skills/import";
+
+    private final SkillImportLauncher skillImportLauncher;
+    private static final Logger log = LoggerFactory.getLogger(SkillImportController.class);
+
+    /**
+     * Starts the import of every CSV/JSON file of the import directory matching the given pattern.
+     *
+     * @param input pattern of the files to import, relative to the import directory, e.g. {@code skills-*.csv}
+     * @return 202 with the started execution, its status is at the {@code Location} of the response;
+     * 400 if the input points outside the import directory, 409 if this input was already imported or is being imported
+     */
+    @PostMapping("/import")
+    public ResponseEntity<?> importSkills(@RequestParam String input) throws JobExecutionException {
+        JobExecution execution;
+        try {
+            execution = skillImportLauncher.start(input);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(e.getMessage(), HttpStatus.BAD_REQUEST);
+        } catch (JobInstanceAlreadyCompleteException | JobExecutionAlreadyRunningException e) {
+            log.info("Skill import of {} refused: {}", input, e.getMessage());
+            return new ResponseEntity<>(e.getMessage(), HttpStatus.CONFLICT);
+        }
+        URI status = UriComponentsBuilder.fromPath(IMPORT_PATH + "/{jobExecutionId}").buildAndExpand(execution.getId()).toUri();
+        return ResponseEntity.accepted().location(status).body(toResult(execution));
+    }
+
+    /**
+     * @param jobExecutionId the id returned when the import was started
+     * @return the status and the counters of the import so far, 404 if there is no such import
+     */
+    @GetMapping("/import/{jobExecutionId}")
+    public ResponseEntity<SkillImportResultDto> importStatus(@PathVariable long jobExecutionId) {
+        return skillImportLauncher.find(jobExecutionId)
+                .map(execution -> ResponseEntity.ok(toResult(execution)))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    private static SkillImportResultDto toResult(JobExecution execution) {
+        SkillImportResultDto result = SkillImportResultDto.builder()
+                .jobExecutionId(execution.getId())
+                .status(execution.getStatus().name())
+                .build();
+        for (StepExecution step : execution.getStepExecutions()) {
+            // the manager step already aggregates the counters of its partitions
+            if (SkillImportJobConfiguration.MANAGER_STEP_NAME.equals(step.getStepName())) {
+                result.setReadCount(step.getReadCount());
+                result.setWriteCount(step.getWriteCount());
+                result.setSkipCount(step.getSkipCount());
+            }
+        }
+        if (execution.getStartTime() != null && execution.getEndTime() != null) {
+            result.setDurationMillis(Duration.between(execution.getStartTime(), execution.getEndTime()).toMillis());
+        }
+        return result;
+    }
+}
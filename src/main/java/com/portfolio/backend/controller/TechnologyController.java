@@ -1,9 +1,43 @@
 package com.portfolio.backend.controller;
 
+import com.portfolio.backend.services.CatalogSnapshotService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.Duration;
+
+/**
+ * Serves the technology catalog and the simpleicons SVGs from pre-compressed snapshots.
+ */
 @RestController
-@RequestMapping
+@RequestMapping("api/v0")
+@RequiredArgsConstructor
 public class TechnologyController {
+
+    private final CatalogSnapshotService catalogSnapshotService;
+
+    /**
+     * Returns all technologies, see {@link com.portfolio.backend.entity.Technologies}.
+     */
+    @GetMapping("/technologies")
+    public ResponseEntity<byte[]> getTechnologies(WebRequest request) {
+        return catalogSnapshotService.getTechnologies()
+                .toResponse(request, CacheControl.maxAge(Duration.ofHours(1)).cachePublic());
+    }
+
+    /**
+     * Returns the SVG icon of a simpleicons slug; icons never change, clients may cache them for a day.
+     */
+    @GetMapping("/icons/{slug}")
+    public ResponseEntity<byte[]> getIcon(@PathVariable String slug, WebRequest request) {
+        return catalogSnapshotService.getIcon(slug)
+                .map(icon -> icon.toResponse(request, CacheControl.maxAge(Duration.ofDays(1)).cachePublic()))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
 }
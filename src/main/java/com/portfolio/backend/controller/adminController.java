@@ -1,17 +1,29 @@
 package com.portfolio.backend.controller;
 
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.portfolio.backend.dtos.EducationDto;
+import com.portfolio.backend.dtos.SkillBatchDto;
 import com.portfolio.backend.dtos.SkillDto;
+import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import com.portfolio.backend.services.CatalogSnapshotService;
 import com.portfolio.backend.services.EducationService;
 import com.portfolio.backend.services.SkillService;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 
 @RestController
@@ -21,23 +33,48 @@ import java.util.List;
 @RequiredArgsConstructor
 public class adminController {
     private final SkillService skillService;
+    private final CatalogSnapshotService catalogSnapshotService;
+    private final ObjectMapper objectMapper;
 
     private static final Logger log = LoggerFactory.getLogger(adminController.class);
+    private static final int MAX_BATCH_SIZE = 100;
     /*++++++++++skills++++++++++*/
 
 
     @PostMapping("/post-skill")
-    public ResponseEntity<SkillDto> postSkill( @RequestBody SkillDto skillDto) {
+    public ResponseEntity<SkillDto> postSkill(@Valid @RequestBody SkillDto skillDto) {
         skillService.createSkill(skillDto);
         log.info("skill{} created", skillDto);
         return ResponseEntity.ok().body(skillDto);
     }
-    @GetMapping("/getSkills")
-    public List<SkillDto> getSkills() {
-        //was passiert wenn das schiefgeht?
-        return skillService.getAllSkills();
+    /**
+     * Inserts or updates all skills of the JSON array in one transaction, matched by (category, skill_name).
+     */
+    @PostMapping(value = "/post-skills", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Map<String, Integer>> postSkills(@RequestBody List<SkillDto> skillDtos) {
+        int upserted = skillService.upsertSkills(skillDtos.iterator());
+        return ResponseEntity.ok(Map.of("upserted", upserted));
+    }
 
+    /**
+     * Same as {@link #postSkills(List)} for a newline delimited JSON body; the skills are read from
+     * the stream batch by batch while they are written.
+     */
+    @PostMapping(value = "/post-skills", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<Map<String, Integer>> postSkillsStream(InputStream body) throws IOException {
+        try (MappingIterator<SkillDto> skillDtos = objectMapper.readerFor(SkillDto.class).readValues(body)) {
+            int upserted = skillService.upsertSkills(skillDtos);
+            return ResponseEntity.ok(Map.of("upserted", upserted));
+        }
+    }
 
+    /**
+     * Returns all skills from the pre-compressed snapshot, see {@link CatalogSnapshotService}.
+     */
+    @GetMapping("/getSkills")
+    public ResponseEntity<byte[]> getSkills(WebRequest request) {
+        //was passiert wenn das schiefgeht?
+        return catalogSnapshotService.getSkills().toResponse(request, CacheControl.noCache());
     }
     @GetMapping("/get-skill/{id}")
     public ResponseEntity<SkillDto> getSkill(@PathVariable Long id) {
@@ -45,6 +82,33 @@ public class adminController {
         return ResponseEntity.ok().body( skillService.getSkillDtoById(id));
     }
 
+    /**
+     * Returns the skills of up to 100 ids in one call, e.g. {@code /get-skills?ids=3,1,7}, in the
+     * order of the ids; the ids without a skill are listed in {@code missingIds}.
+     */
+    @GetMapping("/get-skills")
+    public ResponseEntity<SkillBatchDto> getSkillsByIds(@RequestParam List<Long> ids) {
+        // an empty element (ids=1,,2) is bound as a null id
+        if (ids.isEmpty() || ids.size() > MAX_BATCH_SIZE || ids.contains(null)) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(skillService.getSkillDtosByIds(ids));
+    }
+
+    @DeleteMapping("/delete-skill/{id}")
+    public ResponseEntity<Void> deleteSkill(@PathVariable Long id) {
+        skillService.deleteSkill(id);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Deletes all skills of the given ids with a single statement, unknown ids are ignored.
+     */
+    @DeleteMapping("/delete-skills")
+    public ResponseEntity<Map<String, Integer>> deleteSkills(@RequestBody Collection<Long> ids) {
+        return ResponseEntity.ok(Map.of("deleted", skillService.deleteSkills(ids)));
+    }
+
     /*++++++++++Education++++++++++*/
     EducationService educationService;
     @PostMapping("/post-education")
@@ -1,8 +1,14 @@
 package com.portfolio.backend.controller.exceptionHandler;
 
+import com.portfolio.backend.exceptions.InvalidCursorException;
+import com.portfolio.backend.exceptions.InvalidSkillException;
+import com.portfolio.backend.exceptions.SkillAlreadyExistsException;
 import com.portfolio.backend.exceptions.SkillNotFoundException;
+import jakarta.persistence.EntityNotFoundException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 
@@ -13,4 +19,30 @@ public class GlobalExceptionHandler {
     public ResponseEntity<String> handlerSkillNotFoundException(){
         return  new ResponseEntity<>("Skill not found", HttpStatus.NOT_FOUND);
     }
+
+    @ExceptionHandler(EntityNotFoundException.class)
+    public ResponseEntity<String> handlerEntityNotFoundException(EntityNotFoundException exception){
+        return  new ResponseEntity<>(exception.getMessage(), HttpStatus.NOT_FOUND);
+    }
+
+    @ExceptionHandler(InvalidSkillException.class)
+    public ResponseEntity<String> handlerInvalidSkillException(InvalidSkillException exception){
+        return  new ResponseEntity<>(exception.getMessage(), HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(SkillAlreadyExistsException.class)
+    public ResponseEntity<String> handlerSkillAlreadyExistsException(SkillAlreadyExistsException exception){
+        return  new ResponseEntity<>(exception.getMessage(), HttpStatus.CONFLICT);
+    }
+
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<String> handlerInvalidCursorException(InvalidCursorException exception){
+        return  new ResponseEntity<>(exception.getMessage(), HttpStatus.BAD_REQUEST);
+    }
+
+    //no database connection within spring.datasource.hikari.connection-timeout: overloaded, not broken
+    @ExceptionHandler(CannotCreateTransactionException.class)
+    public ResponseEntity<String> handlerCannotCreateTransactionException(){
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "1").body("Service overloaded, retry later");
+    }
 }
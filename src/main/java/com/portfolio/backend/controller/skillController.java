@@ -1,13 +1,138 @@
 package com.portfolio.backend.controller;
 
+import com.portfolio.backend.configs.WebSecurityConfiguration;
+import com.portfolio.backend.dtos.SkillDto;
+import com.portfolio.backend.exceptions.SkillAlreadyExistsException;
+import com.portfolio.backend.repositories.SkillRepository;
+import com.portfolio.backend.services.CatalogSnapshotService;
+import com.portfolio.backend.services.SkillService;
+import com.portfolio.backend.utils.StreamingTemplateRenderer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
+import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
+import org.springframework.validation.BindingResult;
+import org.springframework.web.bind.annotation.CookieValue;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.context.request.WebRequest;
 
-@RestController
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Objects;
+import java.util.zip.CRC32;
+
+/**
+ * Server side rendered admin pages of the skills (list, add, update, delete).
+ * <p>
+ * The skill table is rendered once per version of the skill catalog
+ * ({@link CatalogSnapshotService#getSkillCatalogVersion()}) and the HTML is reused until a skill
+ * changes. Its rows are streamed from the database into the template (see
+ * {@link StreamingTemplateRenderer}), the skills are never loaded as a list. The list page also
+ * carries an ETag derived from the rendered table and the CSRF token of its forms, so a browser
+ * revisiting an unchanged list gets a 304 without anything being rendered. The ETag does not depend
+ * on the catalog version, which is local to each instance.
+ * </p>
+ */
+@Controller
+@RequestMapping("/admin/skills")
 public class skillController {
-    public String getSkills(Model model){
-        model.addAttribute("skills", "Skills");
-        return "Skills";
+
+    private static final String LIST_REDIRECT = "redirect:/admin/skills/list";
+
+    private final SkillService skillService;
+    private final CatalogSnapshotService catalogSnapshotService;
+    private final SkillRepository skillRepository;
+    private final StreamingTemplateRenderer renderer;
+    private volatile RenderedTable skillTable;
+
+    public skillController(SkillService skillService, CatalogSnapshotService catalogSnapshotService,
+                           SkillRepository skillRepository, StreamingTemplateRenderer renderer) {
+        this.skillService = skillService;
+        this.catalogSnapshotService = catalogSnapshotService;
+        this.skillRepository = skillRepository;
+        this.renderer = renderer;
+    }
+
+    @GetMapping("/list")
+    public String getSkills(Model model, WebRequest webRequest, HttpServletRequest request, HttpServletResponse response,
+                            @CookieValue(name = WebSecurityConfiguration.ADMIN_CSRF_COOKIE, required = false) String csrfCookie) {
+        RenderedTable table = renderSkillTable(catalogSnapshotService.getSkillCatalogVersion(), request, response);
+        // a page cached with another csrf token would have its forms rejected
+        String etag = "\"skills-" + table.etag() + "-" + Integer.toHexString(Objects.hashCode(csrfCookie)) + "\"";
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        model.addAttribute("skillTable", table.html());
+        return "skills/list_skills";
+    }
+
+    @GetMapping("/showFormForAdd")
+    public String showFormForAdd(Model model) {
+        model.addAttribute("skill", new SkillDto());
+        return "skills/skill_form";
+    }
+
+    @GetMapping("/showFormForUpdate")
+    public String showFormForUpdate(@RequestParam("skillId") Long id, Model model) {
+        model.addAttribute("skill", skillService.getSkillDtoById(id));
+        return "skills/skill_form";
+    }
+
+    @PostMapping("/save")
+    public String saveSkill(@Valid @ModelAttribute("skill") SkillDto skillDto, BindingResult bindingResult) {
+        if (bindingResult.hasErrors()) {
+            return "skills/skill_form";
+        }
+        try {
+            if (skillDto.getId() == null) {
+                skillService.createSkill(skillDto);
+            } else {
+                skillService.updateSkill(skillDto.getId(), skillDto);
+            }
+        } catch (SkillAlreadyExistsException e) {
+            bindingResult.rejectValue("skill_name", "duplicate", e.getMessage());
+            return "skills/skill_form";
+        }
+        return LIST_REDIRECT;
+    }
+
+    @PostMapping("/delete")
+    public String deleteSkill(@RequestParam("skillId") Long id) {
+        skillService.deleteSkill(id);
+        return LIST_REDIRECT;
+    }
+
+    private RenderedTable renderSkillTable(long version, HttpServletRequest request, HttpServletResponse response) {
+        RenderedTable table = skillTable;
+        if (table == null || table.version() != version) {
+            // the links only depend on the context path, the same HTML serves every request
+            StringWriter html = new StringWriter();
+            renderer.render("skills/skill_table", "skills", skillRepository::streamAllSkillDtos, Map.of(),
+                    request, response, html);
+            table = new RenderedTable(version, html.toString());
+            skillTable = table;
+        }
+        return table;
+    }
+
+    private record RenderedTable(long version, String html, String etag) {
+
+        private RenderedTable(long version, String html) {
+            this(version, html, etag(html));
+        }
+
+        private static String etag(String html) {
+            byte[] bytes = html.getBytes(StandardCharsets.UTF_8);
+            CRC32 crc = new CRC32();
+            crc.update(bytes);
+            return HexFormat.of().toHexDigits(crc.getValue()) + "-" + bytes.length;
+        }
     }
 }
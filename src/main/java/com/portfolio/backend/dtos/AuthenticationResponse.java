@@ -6,8 +6,9 @@ import lombok.Data;
  * The AuthenticationResponse class is used to encapsulate the response
  * returned after successful authentication of a user.
  * <p>
- * It contains the JWT (JSON Web Token) along with the user's identifying
- * information, such as their user ID, first name, and last name.
+ * It contains the short-lived JWT (JSON Web Token), the refresh token used to get
+ * a new one, and the user's identifying information, such as their user ID,
+ * first name, and last name.
  * </p>
  */
 
@@ -19,6 +20,11 @@ public class AuthenticationResponse {
      * This token is used to authorize subsequent requests.
      */
     private String jwt;
+    /**
+     * The refresh token, exchanged at {@code /api/auth/refresh} for a new token pair
+     * once the JWT has expired. It is valid for a single exchange.
+     */
+    private String refreshToken;
     /**
      * The unique identifier for the authenticated user.
      */
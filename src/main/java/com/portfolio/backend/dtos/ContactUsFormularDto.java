@@ -3,6 +3,7 @@ import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
     /**
@@ -15,6 +16,7 @@ import lombok.RequiredArgsConstructor;
      */
     @Data
     @RequiredArgsConstructor
+    @AllArgsConstructor
     public class ContactUsFormularDto {
         @NotBlank(message = "Le prénom est requis")
         @Size(min = 2, max = 50, message = "Le prénom doit contenir entre 2 et 50 caractères")
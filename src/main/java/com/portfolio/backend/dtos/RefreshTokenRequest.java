@@ -0,0 +1,16 @@
+package com.portfolio.backend.dtos;
+
+import lombok.Data;
+
+/**
+ * The RefreshTokenRequest class carries the refresh token a client exchanges for a new
+ * token pair, or revokes when logging out.
+ */
+@Data
+public class RefreshTokenRequest {
+
+    /**
+     * The refresh token returned by the last login or refresh.
+     */
+    private String refreshToken;
+}
@@ -0,0 +1,21 @@
+package com.portfolio.backend.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Skills requested by id in one call, in the order of the request.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SkillBatchDto {
+    private List<SkillDto> skills;
+    /* requested ids without a skill, e.g. deleted in the meantime */
+    private List<Long> missingIds;
+}
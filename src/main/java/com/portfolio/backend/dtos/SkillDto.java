@@ -2,6 +2,8 @@ package com.portfolio.backend.dtos;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Transient;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -16,10 +18,18 @@ import javax.swing.*;
 @AllArgsConstructor
 @NoArgsConstructor
 public class SkillDto {
+    /* null for a skill that is not saved yet, ignored by the upserts */
+    private Long id;
+    @NotBlank(message = "Category is required")
+    @Size(max = 255)
     private String category;
+    @NotBlank(message = "Skill name is required")
+    @Size(max = 255)
     private String skill_name;
+    @Size(max = 255)
     private String framework;
     /*that icon is used to display the skill */
+    @Size(max = 255)
     private String icon;
 
 }
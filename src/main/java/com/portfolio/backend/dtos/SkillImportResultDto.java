@@ -0,0 +1,22 @@
+package com.portfolio.backend.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Summary of a skill import job execution, counters are summed over all imported files.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SkillImportResultDto {
+    private Long jobExecutionId;
+    private String status;
+    private long readCount;
+    private long writeCount;
+    private long skipCount;
+    private long durationMillis;
+}
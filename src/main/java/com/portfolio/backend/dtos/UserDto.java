@@ -2,7 +2,9 @@ package com.portfolio.backend.dtos;
 
 
 
+import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 /**
  * The UserDto class is a data transfer object (DTO) that represents a user
@@ -12,8 +14,14 @@ import lombok.Data;
  * information (first name, last name, email) as well as a list of notebooks
  * associated with the user.
  * </p>
+ * <p>
+ * The all-args constructor is used by the projection queries of the {@code UserRepository},
+ * which select these four columns only.
+ * </p>
  */
 @Data
+@NoArgsConstructor
+@AllArgsConstructor
 public class UserDto {
 
     /**
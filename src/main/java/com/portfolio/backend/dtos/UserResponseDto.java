@@ -9,8 +9,8 @@ import lombok.Data;
  * a response containing a list of users.
  * <p>
  * This DTO is typically used in situations where multiple users need to be
- * returned in a single response. It encapsulates a list of `UserDto` objects
- * that represent the details of each user.
+ * returned in a single response. It encapsulates one page of `UserDto` objects
+ * that represent the details of each user, and the cursor of the next page.
  * </p>
  */
 @Data
@@ -21,4 +21,9 @@ public class UserResponseDto {
      * This list contains user data for each user being returned in the response.
      */
     private List<UserDto> userDtoList;
+
+    /**
+     * Opaque cursor to pass back to fetch the next page, or {@code null} on the last page.
+     */
+    private String nextCursor;
 }
\ No newline at end of file
@@ -2,6 +2,8 @@ package com.portfolio.backend.entity;
 
 import jakarta.persistence.*;
 import lombok.Data;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.format.annotation.DateTimeFormat;
 
 import java.time.LocalDate;
@@ -11,6 +13,9 @@ import java.util.List;
     @Entity
     @Data
     @Table(name = "work_experience")
+    //only edited in the database, the cached rows expire (ehcache.xml)
+    @Cacheable
+    @Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = "experience")
     public class Experience {
 
         @Id
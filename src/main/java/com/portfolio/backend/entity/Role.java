@@ -1,5 +1,9 @@
 package com.portfolio.backend.entity;
 
+/**
+ * The ordinal of a role is its bit in {@code users.roles_mask} (see
+ * {@link com.portfolio.backend.utils.RoleAuthorities}): append new roles, never reorder or remove one.
+ */
 public enum Role {
     USER,
     ADMIN
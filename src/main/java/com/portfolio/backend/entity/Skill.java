@@ -5,9 +5,13 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.SQLRestriction;
 import org.silentsoft.simpleicons.SimpleIcons;
 
 
+import java.time.Instant;
 import java.util.Collection;
 import java.util.HashSet;
 
@@ -17,6 +21,10 @@ import java.util.HashSet;
 @Entity
 @Data
 @Table(name = "skill")
+@SQLRestriction("deleted_at IS NULL")
+//second-level cache: the bulk writes of SkillJdbcRepository are synchronized with this entity, changes of other instances are evicted by SecondLevelCacheEvictor
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE, region = "skill")
 public class Skill {
 
     @Id
@@ -36,6 +44,12 @@ public class Skill {
     @Column (name="icon")
     private String icon;
 
+    /**
+     * Set when the skill was soft deleted, the entity queries never return such tombstones.
+     */
+    @Column(name = "deleted_at")
+    private Instant deletedAt;
+
 
 
 
@@ -2,14 +2,13 @@ package com.portfolio.backend.entity;
 
 
 import com.portfolio.backend.dtos.UserDto;
+import com.portfolio.backend.utils.RoleAuthorities;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import lombok.Data;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.Set;
 
 /**
@@ -76,8 +75,27 @@ public class User  implements UserDetails {
     @Enumerated(EnumType.STRING)
     private Role role;
 
-    private Set<Role> roles = new HashSet<>();
-    // RBAC
+    /**
+     * The roles of the user (RBAC), one bit per {@link Role} ordinal, see {@link RoleAuthorities}.
+     * A plain column: it is loaded with the user row, without a join or a second query.
+     */
+    @Column(name = "roles_mask", nullable = false)
+    private int rolesMask;
+
+    /**
+     * @return the roles of the user, an unmodifiable set shared by all users with the same roles
+     */
+    public Set<Role> getRoles() {
+        return RoleAuthorities.roles(rolesMask);
+    }
+
+    public void setRoles(Set<Role> roles) {
+        this.rolesMask = RoleAuthorities.mask(roles);
+    }
+
+    public void addRole(Role role) {
+        this.rolesMask |= RoleAuthorities.bit(role);
+    }
 
     @Override
     public String getUsername() {
@@ -141,13 +159,13 @@ public class User  implements UserDetails {
     }
 
     /**
-     * Returns the authorities granted to the user.
-     * Since no specific roles or authorities are defined here, it returns an empty list.
+     * Returns the authorities granted to the user, one {@code ROLE_<name>} authority per role.
+     * The list is interned per role combination, so this call allocates nothing.
      *
-     * @return an empty list of granted authorities
+     * @return the immutable list of granted authorities
      */
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return roles.stream().map(role -> new SimpleGrantedAuthority(role.name())).toList();
+        return RoleAuthorities.authorities(rolesMask);
     }
 }
@@ -0,0 +1,11 @@
+package com.portfolio.backend.exceptions;
+
+/**
+ * Thrown when a page cursor sent back by a client was not issued by the server, e.g. truncated or
+ * edited by hand. Answered with 400.
+ */
+public class InvalidCursorException extends RuntimeException {
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+}
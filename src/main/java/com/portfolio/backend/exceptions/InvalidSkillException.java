@@ -0,0 +1,11 @@
+package com.portfolio.backend.exceptions;
+
+/**
+ * Thrown when an imported skill row cannot be stored, e.g. a missing name or an unknown icon slug.
+ * The skill import job skips the row instead of failing the whole file.
+ */
+public class InvalidSkillException extends RuntimeException {
+    public InvalidSkillException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,11 @@
+package com.portfolio.backend.exceptions;
+
+/**
+ * Thrown when a skill is created or renamed to a (category, skill_name) that another skill, live or
+ * soft deleted, already has. The bulk upsert ({@code /post-skills}) updates or revives such a skill instead.
+ */
+public class SkillAlreadyExistsException extends RuntimeException {
+    public SkillAlreadyExistsException(String message) {
+        super(message);
+    }
+}
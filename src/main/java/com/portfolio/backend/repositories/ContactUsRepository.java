@@ -1,10 +1,17 @@
 package com.portfolio.backend.repositories;
+import com.portfolio.backend.dtos.ContactUsFormularDto;
 import com.portfolio.backend.entity.ContactUsFormular;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.domain.Page;
 
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 public interface ContactUsRepository extends JpaRepository <ContactUsFormular, Long>{
 
 
@@ -14,6 +21,20 @@ public interface ContactUsRepository extends JpaRepository <ContactUsFormular, L
 
     Page <ContactUsFormular> findAllByMessageIsNotEmpty(Pageable pageable);
 
+    /**
+     * Streams all messages as DTOs, newest first, read from a cursor 200 rows at a time.
+     * No entity is managed, so memory does not grow with the number of rows. Must be consumed
+     * in a transaction and closed.
+     */
+    @Query("select new com.portfolio.backend.dtos.ContactUsFormularDto(c.firstName, c.lastName, c.phoneNumber, c.email, c.message) "
+            + "from ContactUsFormular c order by c.id desc")
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "200"))
+    Stream<ContactUsFormularDto> streamAllDtos();
+
+    @Query("select new com.portfolio.backend.dtos.ContactUsFormularDto(c.firstName, c.lastName, c.phoneNumber, c.email, c.message) "
+            + "from ContactUsFormular c where c.id = :id")
+    Optional<ContactUsFormularDto> findDtoById(Long id);
+
 
 
 }
@@ -0,0 +1,104 @@
+package com.portfolio.backend.repositories;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * JDBC access to the {@code notification_outbox} table (transactional outbox).
+ * <p>
+ * {@link #append} joins the caller's transaction, so the notification only exists if the data
+ * it announces was committed. The dispatcher claims pending rows with {@code FOR UPDATE SKIP LOCKED}
+ * and a lease, so several instances never send the same row concurrently. Finished rows (sent or
+ * given up) are kept for the retention period, then purged.
+ * </p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class NotificationOutboxRepository {
+
+    static final String INSERT_SQL = "INSERT INTO notification_outbox (kind, payload) VALUES (?, ?)";
+
+    /**
+     * Pushes the next attempt of the claimed rows behind the lease and returns them; a row whose
+     * sender crashed is picked up again once the lease is over.
+     */
+    static final String CLAIM_SQL = """
+            UPDATE notification_outbox SET next_attempt_at = now() + ? * INTERVAL '1 millisecond'
+            WHERE id IN (SELECT id FROM notification_outbox
+                         WHERE next_attempt_at <= now()
+                         ORDER BY next_attempt_at, id
+                         LIMIT ?
+                         FOR UPDATE SKIP LOCKED)
+            RETURNING id, kind, payload, attempts
+            """;
+
+    static final String SENT_SQL = "UPDATE notification_outbox SET sent_at = now(), next_attempt_at = NULL WHERE id = ?";
+
+    static final String FAILED_SQL = """
+            UPDATE notification_outbox
+            SET attempts = attempts + 1, last_error = ?,
+                next_attempt_at = CASE WHEN ? THEN NULL ELSE now() + ? * INTERVAL '1 millisecond' END
+            WHERE id = ?
+            """;
+
+    /**
+     * Deletes the rows sent, or given up, longer than the retention ago.
+     */
+    static final String PURGE_SQL = """
+            DELETE FROM notification_outbox
+            WHERE next_attempt_at IS NULL AND coalesce(sent_at, created_at) < now() - ? * INTERVAL '1 millisecond'
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * A notification claimed by the dispatcher.
+     *
+     * @param attempts the number of failed attempts so far
+     */
+    public record OutboxEntry(long id, String kind, String payload, int attempts) {
+    }
+
+    /**
+     * Adds a notification to the outbox, in the current transaction.
+     */
+    public void append(String kind, String payload) {
+        jdbcTemplate.update(INSERT_SQL, kind, payload);
+    }
+
+    /**
+     * Claims up to {@code limit} due notifications for the duration of the lease.
+     */
+    public List<OutboxEntry> claim(int limit, Duration lease) {
+        return jdbcTemplate.query(CLAIM_SQL,
+                (rs, rowNum) -> new OutboxEntry(rs.getLong("id"), rs.getString("kind"), rs.getString("payload"), rs.getInt("attempts")),
+                lease.toMillis(), limit);
+    }
+
+    public void markSent(long id) {
+        jdbcTemplate.update(SENT_SQL, id);
+    }
+
+    /**
+     * Records a failed attempt.
+     *
+     * @param retryIn the delay before the next attempt, ignored when {@code giveUp}
+     * @param giveUp whether the notification is not retried anymore
+     */
+    public void markFailed(long id, String error, Duration retryIn, boolean giveUp) {
+        jdbcTemplate.update(FAILED_SQL, error, giveUp, retryIn.toMillis(), id);
+    }
+
+    /**
+     * Deletes the finished notifications older than the retention.
+     *
+     * @return the number of deleted rows
+     */
+    public int purgeFinished(Duration retention) {
+        return jdbcTemplate.update(PURGE_SQL, retention.toMillis());
+    }
+}
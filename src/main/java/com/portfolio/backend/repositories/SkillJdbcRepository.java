@@ -0,0 +1,109 @@
+package com.portfolio.backend.repositories;
+
+import com.portfolio.backend.dtos.SkillDto;
+import com.portfolio.backend.entity.Skill;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.query.NativeQuery;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Set based skill writes that bypass the persistence context.
+ * <p>
+ * Used for bulk operations where loading and saving entities one by one would cost a round trip
+ * per row. Each write is a single native statement run through Hibernate and synchronized with
+ * {@link Skill}: Hibernate evicts the skill region of the second-level cache and pre-invalidates
+ * the update timestamps of the table before the statement, then evicts and invalidates again after
+ * the commit, so neither a concurrent read nor a cached query can bring the old rows back. Callers
+ * are responsible for the transaction and for invalidating the Spring skill caches.
+ * </p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class SkillJdbcRepository {
+
+    /**
+     * Inserts the skills or updates the existing ones with the same (category, skill_name).
+     * A soft deleted skill with that key comes back to life.
+     */
+    static final String UPSERT_SQL = """
+            INSERT INTO skill (category, skill_name, framework, icon)
+            SELECT * FROM unnest(CAST(:categories AS text[]), CAST(:names AS text[]),
+                                 CAST(:frameworks AS text[]), CAST(:icons AS text[]))
+            ON CONFLICT (category, skill_name)
+            DO UPDATE SET framework = EXCLUDED.framework, icon = EXCLUDED.icon, deleted_at = NULL
+            """;
+
+    static final String DELETE_SQL = "DELETE FROM skill WHERE id = ANY(CAST(:ids AS bigint[]))";
+
+    static final String SOFT_DELETE_SQL = "UPDATE skill SET deleted_at = now() WHERE id = ANY(CAST(:ids AS bigint[])) AND deleted_at IS NULL";
+
+    private final EntityManager entityManager;
+
+    /**
+     * Upserts the given skills with one statement.
+     * <p>
+     * When the same (category, skill_name) occurs several times the last one wins. The duplicates
+     * are dropped before the statement is sent, Postgres rejects an upsert touching the same row
+     * twice ("ON CONFLICT DO UPDATE command cannot affect row a second time").
+     * </p>
+     *
+     * @param skills the skills to insert or update, category and skill_name must be set
+     * @return the number of rows inserted or updated
+     */
+    public int upsert(List<? extends SkillDto> skills) {
+        if (skills.isEmpty()) {
+            return 0;
+        }
+        Map<String, SkillDto> byKey = new LinkedHashMap<>();
+        for (SkillDto skill : skills) {
+            byKey.put(skill.getCategory() + '\u0000' + skill.getSkill_name(), skill);
+        }
+        Collection<SkillDto> distinct = byKey.values();
+        return mutation(UPSERT_SQL)
+                .setParameter("categories", distinct.stream().map(SkillDto::getCategory).toArray(String[]::new))
+                .setParameter("names", distinct.stream().map(SkillDto::getSkill_name).toArray(String[]::new))
+                .setParameter("frameworks", distinct.stream().map(SkillDto::getFramework).toArray(String[]::new))
+                .setParameter("icons", distinct.stream().map(SkillDto::getIcon).toArray(String[]::new))
+                .executeUpdate();
+    }
+
+    /**
+     * Deletes the given skills with a single statement.
+     *
+     * @param ids the ids of the skills to delete
+     * @return the number of deleted rows, unknown ids are ignored
+     */
+    public int deleteByIds(Collection<Long> ids) {
+        return updateByIds(DELETE_SQL, ids);
+    }
+
+    /**
+     * Marks the given live skills as deleted with a single statement.
+     *
+     * @param ids the ids of the skills to soft delete
+     * @return the number of tombstoned rows, unknown or already deleted ids are ignored
+     */
+    public int softDeleteByIds(Collection<Long> ids) {
+        return updateByIds(SOFT_DELETE_SQL, ids);
+    }
+
+    private int updateByIds(String sql, Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return mutation(sql).setParameter("ids", ids.toArray(Long[]::new)).executeUpdate();
+    }
+
+    @SuppressWarnings("unchecked")
+    private NativeQuery<?> mutation(String sql) {
+        return entityManager.createNativeQuery(sql)
+                .unwrap(NativeQuery.class)
+                .addSynchronizedEntityClass(Skill.class);
+    }
+}
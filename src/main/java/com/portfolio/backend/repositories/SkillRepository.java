@@ -1,13 +1,22 @@
 package com.portfolio.backend.repositories;
 
+import com.portfolio.backend.dtos.SkillDto;
 import com.portfolio.backend.entity.Skill;
+import jakarta.persistence.QueryHint;
 import lombok.NonNull;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 
 @Repository
 public interface SkillRepository extends JpaRepository<Skill, Long> {
@@ -18,4 +27,21 @@ public interface SkillRepository extends JpaRepository<Skill, Long> {
     @NonNull
     Page<Skill> findAll(@NonNull Pageable pageable);
 
+    /**
+     * All skills, from the query cache until a skill changes; the rows themselves come from the
+     * second-level cache.
+     */
+    @NonNull
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
+    List<Skill> findAll();
+
+    /**
+     * Streams all skills as DTOs, read from a cursor 200 rows at a time. No entity is managed, so
+     * memory does not grow with the number of rows. Must be consumed in a transaction and closed.
+     */
+    @Query("select new com.portfolio.backend.dtos.SkillDto(s.id, s.category, s.skill_name, s.framework, s.icon) "
+            + "from Skill s order by s.category, s.skill_name")
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "200"))
+    Stream<SkillDto> streamAllSkillDtos();
+
 }
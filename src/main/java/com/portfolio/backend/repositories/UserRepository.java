@@ -2,12 +2,15 @@ package com.portfolio.backend.repositories;
 
 import java.util.List;
 import java.util.Optional;
+import com.portfolio.backend.dtos.UserDto;
 import com.portfolio.backend.entity.User;
 import com.portfolio.backend.entity.Role;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 
 /**
@@ -21,10 +24,15 @@ import org.springframework.stereotype.Repository;
 public interface UserRepository extends JpaRepository<User, Long>{
     /**
      * Finds the first user by their email address.
+     * <p>
+     * Loads the principal of every authenticated request on a cache miss, outside of any service
+     * transaction: read-only so that it is routed to the replica.
+     * </p>
      *
      * @param email the email address of the user to be retrieved
      * @return an {@link Optional} containing the user if found, or empty if no user with the provided email exists
      */
+    @Transactional(readOnly = true)
     Optional<User> findFirstByEmail(String email);
 
     /**
@@ -52,7 +60,58 @@ public interface UserRepository extends JpaRepository<User, Long>{
      */
     Optional<User> findByEmailAndPassword(String email, String password);
 
-    List <User> findByRole(Role role);
     Page<User> queryFirst10ByRole(Role role, Pageable pageable);
-    Page<User> findAllByRole(Role role, Pageable pageable);
+
+    /*
+     * The listing queries below select the UserDto columns only: no entity is hydrated and the
+     * password hash never leaves the database. Pass an unsorted Pageable, the order is part of
+     * the query because the keyset conditions depend on it.
+     */
+
+    /**
+     * Keyset page of all users ordered by id.
+     *
+     * @param afterId id of the last user of the previous page, 0 for the first page
+     * @param pageable page size (the page number must be 0)
+     * @return the next users after {@code afterId}
+     */
+    @Query("""
+            select new com.portfolio.backend.dtos.UserDto(u.id, u.firstName, u.lastName, u.email)
+            from User u
+            where u.id > :afterId
+            order by u.id""")
+    List<UserDto> findAllAfter(long afterId, Pageable pageable);
+
+    /**
+     * First keyset page of the users of a role ordered by (first name, id), served by users_role_first_name_id_idx.
+     */
+    @Query("""
+            select new com.portfolio.backend.dtos.UserDto(u.id, u.firstName, u.lastName, u.email)
+            from User u
+            where u.role = :role
+            order by u.firstName, u.id""")
+    List<UserDto> findByRoleFirst(Role role, Pageable pageable);
+
+    /**
+     * Next keyset page of the users of a role, after the (first name, id) of the last user of the previous page.
+     * The row-value comparison is a single range condition on users_role_first_name_id_idx.
+     */
+    @Query("""
+            select new com.portfolio.backend.dtos.UserDto(u.id, u.firstName, u.lastName, u.email)
+            from User u
+            where u.role = :role
+              and (u.firstName, u.id) > (:firstName, :id)
+            order by u.firstName, u.id""")
+    List<UserDto> findByRoleAfter(Role role, String firstName, long id, Pageable pageable);
+
+    /**
+     * Offset page of the users of a role ordered by (first name, id).
+     */
+    @Query(value = """
+            select new com.portfolio.backend.dtos.UserDto(u.id, u.firstName, u.lastName, u.email)
+            from User u
+            where u.role = :role
+            order by u.firstName, u.id""",
+            countQuery = "select count(u) from User u where u.role = :role")
+    Page<UserDto> findPageByRole(Role role, Pageable pageable);
 }
\ No newline at end of file
@@ -0,0 +1,161 @@
+package com.portfolio.backend.services;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portfolio.backend.dtos.SkillDto;
+import com.portfolio.backend.entity.Technologies;
+import com.portfolio.backend.repositories.SkillRepository;
+import com.portfolio.backend.utils.CompressedPayload;
+import org.silentsoft.simpleicons.Icon;
+import org.silentsoft.simpleicons.SimpleIcons;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+/**
+ * Pre-serialized and pre-compressed snapshots of the public catalogs (skills, technologies and
+ * icons), see {@link CompressedPayload}.
+ * <p>
+ * The technology catalog is static and built at startup. The skill snapshot is built on first use
+ * and dropped after every committed {@link SkillCatalogChangedEvent}; the readers arriving while it
+ * is rebuilt wait for that one build instead of each loading the skills again. Icons are built per slug on
+ * first use; they never change for a given simpleicons version.
+ * </p>
+ * <p>
+ * The skills are read from the database, not through the skill caches: those are evicted after the
+ * commit too, possibly after the version was bumped, and a snapshot built from them could hold the
+ * old catalog under the new version (and ETag).
+ * </p>
+ */
+@Service
+public class CatalogSnapshotService {
+
+    private static final MediaType SVG = MediaType.valueOf("image/svg+xml");
+    private static final Logger log = LoggerFactory.getLogger(CatalogSnapshotService.class);
+
+    private final SkillRepository skillRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ObjectMapper objectMapper;
+    private final CompressedPayload technologies;
+    private final ConcurrentMap<String, CompressedPayload> icons = new ConcurrentHashMap<>();
+    // starts at the boot time so that versions (and the ETags built from them) are not reused after a restart
+    private final AtomicLong skillCatalogVersion = new AtomicLong(System.currentTimeMillis());
+    private final AtomicReference<SkillSnapshot> skills = new AtomicReference<>();
+
+    public CatalogSnapshotService(SkillRepository skillRepository, PlatformTransactionManager transactionManager,
+                                  ObjectMapper objectMapper) {
+        this.skillRepository = skillRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.objectMapper = objectMapper;
+        this.technologies = json("technologies", Technologies.ALL);
+    }
+
+    /**
+     * @return the JSON array of all skills
+     */
+    public CompressedPayload getSkills() {
+        long version = skillCatalogVersion.get();
+        while (true) {
+            SkillSnapshot snapshot = skills.get();
+            // a reader that saw an older version keeps a newer snapshot rather than replacing it
+            if (snapshot != null && snapshot.version() >= version) {
+                return await(snapshot);
+            }
+            SkillSnapshot building = new SkillSnapshot(version, new CompletableFuture<>());
+            if (skills.compareAndSet(snapshot, building)) {
+                // a snapshot built while the catalog changes carries the old version and is rebuilt by the next reader
+                try {
+                    CompressedPayload payload = json("skills", loadSkills());
+                    building.payload().complete(payload);
+                    return payload;
+                } catch (RuntimeException e) {
+                    skills.compareAndSet(building, null);
+                    building.payload().completeExceptionally(e);
+                    throw e;
+                }
+            }
+        }
+    }
+
+    /**
+     * @return a number changing after every committed change of the skill catalog
+     */
+    public long getSkillCatalogVersion() {
+        return skillCatalogVersion.get();
+    }
+
+    /**
+     * @return the JSON array of all technologies
+     */
+    public CompressedPayload getTechnologies() {
+        return technologies;
+    }
+
+    /**
+     * @param slug the simpleicons slug, e.g. {@code springboot}
+     * @return the SVG of the icon, empty if simpleicons has no such icon
+     */
+    public Optional<CompressedPayload> getIcon(String slug) {
+        CompressedPayload icon = icons.get(slug);
+        if (icon != null) {
+            return Optional.of(icon);
+        }
+        Icon simpleIcon = SimpleIcons.get(slug);
+        if (simpleIcon == null) {
+            return Optional.empty();
+        }
+        return Optional.of(icons.computeIfAbsent(slug,
+                key -> CompressedPayload.of(SVG, simpleIcon.getSvg().getBytes(StandardCharsets.UTF_8))));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSkillCatalogChanged(SkillCatalogChangedEvent event) {
+        skillCatalogVersion.incrementAndGet();
+    }
+
+    private static CompressedPayload await(SkillSnapshot snapshot) {
+        try {
+            return snapshot.payload().join();
+        } catch (CompletionException e) {
+            // the build failed in the reader running it, the waiting readers fail the same way
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    private List<SkillDto> loadSkills() {
+        return readOnlyTransaction.execute(status -> {
+            try (Stream<SkillDto> skills = skillRepository.streamAllSkillDtos()) {
+                return skills.toList();
+            }
+        });
+    }
+
+    private CompressedPayload json(String name, Object value) {
+        try {
+            CompressedPayload payload = CompressedPayload.of(MediaType.APPLICATION_JSON, objectMapper.writeValueAsBytes(value));
+            log.info("Built {} snapshot: {} bytes, {} bytes gzipped", name, payload.size(), payload.compressedSize());
+            return payload;
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize the " + name + " snapshot", e);
+        }
+    }
+
+    private record SkillSnapshot(long version, CompletableFuture<CompressedPayload> payload) {
+    }
+}
@@ -0,0 +1,158 @@
+package com.portfolio.backend.services;
+
+import com.portfolio.backend.dtos.ContactUsFormularDto;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Pushes every committed contact-us message to the connected admin dashboards as server-sent events.
+ * <p>
+ * Messages go into a single ring buffer of {@code portfolio.contact-us.stream.buffer-size} slots:
+ * a publisher claims a sequence number with one atomic increment and writes its slot, no lock is
+ * taken and nothing is copied per subscriber. Each subscriber has its own virtual thread reading the
+ * ring from its cursor and writing to its connection, parked while there is nothing new. A
+ * subscriber whose connection is so slow that the publishers lap it (its next slot already holds a
+ * newer message) is dropped; the client reconnects and reloads the list. Idle subscribers only cost
+ * a parked virtual thread and the open connection.
+ * </p>
+ */
+@Service
+public class ContactUsBroadcaster {
+
+    private static final Logger log = LoggerFactory.getLogger(ContactUsBroadcaster.class);
+    private static final Executor SUBSCRIBER_THREADS = subscriber -> Thread.ofVirtual().name("contact-us-sse").start(subscriber);
+
+    private final AtomicReferenceArray<Slot> ring;
+    private final int mask;
+    private final AtomicLong nextSequence = new AtomicLong();
+    private final CopyOnWriteArrayList<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+    private final long timeoutMillis;
+    private final long heartbeatNanos;
+
+    public ContactUsBroadcaster(@Value("${portfolio.contact-us.stream.buffer-size:256}") int bufferSize,
+                                @Value("${portfolio.contact-us.stream.timeout:30m}") Duration timeout,
+                                @Value("${portfolio.contact-us.stream.heartbeat:25s}") Duration heartbeat) {
+        int capacity = Integer.highestOneBit(Math.max(bufferSize, 2) - 1) << 1;
+        this.ring = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+        this.timeoutMillis = timeout.toMillis();
+        this.heartbeatNanos = heartbeat.toNanos();
+    }
+
+    /**
+     * Opens a stream receiving the messages committed from now on.
+     *
+     * @return the emitter to return from the controller
+     */
+    public SseEmitter subscribe() {
+        return subscribe(new SseEmitter(timeoutMillis), SUBSCRIBER_THREADS);
+    }
+
+    // the executor runs the loop of the subscriber, tests run it when they choose to
+    SseEmitter subscribe(SseEmitter emitter, Executor executor) {
+        Subscriber subscriber = new Subscriber(emitter, nextSequence.get());
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(error -> subscriber.close());
+        subscribers.add(subscriber);
+        executor.execute(subscriber::run);
+        return emitter;
+    }
+
+    /**
+     * Ends the open streams when the application stops, their clients reconnect to another instance.
+     */
+    @PreDestroy
+    public void shutdown() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.close();
+            subscriber.emitter.complete();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onContactUsMessageCreated(ContactUsMessageCreatedEvent event) {
+        broadcast(event.message());
+    }
+
+    /**
+     * Sends a committed message to the subscribers of this instance, e.g. one received from another
+     * instance.
+     */
+    public void broadcast(ContactUsFormularDto message) {
+        long sequence = nextSequence.getAndIncrement();
+        ring.set((int) (sequence & mask), new Slot(sequence, message));
+        for (Subscriber subscriber : subscribers) {
+            LockSupport.unpark(subscriber.thread);
+        }
+    }
+
+    private record Slot(long sequence, ContactUsFormularDto message) {
+    }
+
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private long cursor;
+        private volatile Thread thread;
+        private volatile boolean closed;
+
+        private Subscriber(SseEmitter emitter, long cursor) {
+            this.emitter = emitter;
+            this.cursor = cursor;
+        }
+
+        private void run() {
+            // a message broadcast before this is in the ring already, the loop reads it before parking
+            thread = Thread.currentThread();
+            try {
+                while (!closed) {
+                    Slot slot = ring.get((int) (cursor & mask));
+                    if (slot == null || slot.sequence() < cursor) {
+                        // nothing new (or the publisher has claimed the slot but not written it yet)
+                        long parkedAt = System.nanoTime();
+                        LockSupport.parkNanos(this, heartbeatNanos);
+                        if (System.nanoTime() - parkedAt >= heartbeatNanos) {
+                            emitter.send(SseEmitter.event().comment("heartbeat"));
+                        }
+                    } else if (slot.sequence() > cursor) {
+                        log.info("Dropping a contact-us stream subscriber {} messages behind", slot.sequence() - cursor);
+                        emitter.complete();
+                        return;
+                    } else {
+                        emitter.send(SseEmitter.event()
+                                .id(Long.toString(cursor))
+                                .name("contact-us")
+                                .data(slot.message(), MediaType.APPLICATION_JSON));
+                        cursor++;
+                    }
+                }
+            } catch (IOException | IllegalStateException e) {
+                // the client went away
+                emitter.completeWithError(e);
+            } finally {
+                close();
+            }
+        }
+
+        private void close() {
+            closed = true;
+            subscribers.remove(this);
+            LockSupport.unpark(thread);
+        }
+    }
+}
@@ -1,11 +1,16 @@
 package com.portfolio.backend.services;
 
+import com.portfolio.backend.cluster.ChangedEntity;
+import com.portfolio.backend.cluster.EntityChangedEvent;
 import com.portfolio.backend.dtos.ContactUsFormularDto;
 import com.portfolio.backend.entity.ContactUsFormular;
 import com.portfolio.backend.repositories.ContactUsRepository;
+import com.portfolio.backend.services.notification.NotificationOutbox;
 import lombok.RequiredArgsConstructor;
 import org.jspecify.annotations.NonNull;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -14,8 +19,11 @@ import java.util.List;
 public class ContactUsFormularServiceImpl implements ContactUsFormularService{
 
     private final ContactUsRepository contactUsRepository;
+    private final NotificationOutbox notificationOutbox;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
+    @Transactional
     public void createContactFormular(ContactUsFormularDto contactUsFormularDto) {
         ContactUsFormular contactUsFormular = getContactUsFormular(contactUsFormularDto);
 
@@ -28,6 +36,12 @@ public class ContactUsFormularServiceImpl implements ContactUsFormularService{
 //                .phoneNumber(contactUsFormularDto.getPhoneNumber())
 //                .message(contactUsFormularDto.getMessage()).build();
         contactUsRepository.save(contactUsFormular);
+        //the owner is emailed in the background, only if the message is committed
+        notificationOutbox.enqueueContactUsNotification(contactUsFormularDto);
+        //pushed to the open admin dashboards after the commit (ContactUsBroadcaster)
+        eventPublisher.publishEvent(new ContactUsMessageCreatedEvent(contactUsFormularDto));
+        //and to the dashboards connected to the other instances (InvalidationBus)
+        eventPublisher.publishEvent(EntityChangedEvent.local(ChangedEntity.CONTACT_US, contactUsFormular.getId()));
     }
 
     private static @NonNull ContactUsFormular getContactUsFormular(ContactUsFormularDto contactUsFormularDto) {
@@ -45,6 +59,7 @@ public class ContactUsFormularServiceImpl implements ContactUsFormularService{
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<ContactUsFormular>findAll() {
         return contactUsRepository.findAll();
 
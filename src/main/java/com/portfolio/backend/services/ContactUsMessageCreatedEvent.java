@@ -0,0 +1,12 @@
+package com.portfolio.backend.services;
+
+import com.portfolio.backend.dtos.ContactUsFormularDto;
+
+/**
+ * Published by {@link ContactUsFormularService#createContactFormular} in the transaction storing the
+ * message; {@code @TransactionalEventListener}s only see it once the message is committed.
+ *
+ * @param message the stored message
+ */
+public record ContactUsMessageCreatedEvent(ContactUsFormularDto message) {
+}
@@ -0,0 +1,9 @@
+package com.portfolio.backend.services;
+
+/**
+ * Published whenever skills are created, upserted, imported or deleted. Listeners rebuilding
+ * derived views of the catalog should use {@code @TransactionalEventListener} so that they only
+ * see committed changes.
+ */
+public record SkillCatalogChangedEvent() {
+}
@@ -1,11 +1,28 @@
 package com.portfolio.backend.services;
 
+import com.portfolio.backend.cluster.ChangedEntity;
+import com.portfolio.backend.cluster.EntityChangedEvent;
+import com.portfolio.backend.configs.CacheConfiguration;
+import com.portfolio.backend.dtos.SkillBatchDto;
 import com.portfolio.backend.dtos.SkillDto;
 import com.portfolio.backend.entity.Skill;
+import com.portfolio.backend.exceptions.InvalidSkillException;
+import com.portfolio.backend.exceptions.SkillAlreadyExistsException;
+import com.portfolio.backend.repositories.SkillJdbcRepository;
 import jakarta.persistence.EntityNotFoundException;
+import org.apache.commons.lang3.StringUtils;
+import org.hibernate.exception.ConstraintViolationException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import com.portfolio.backend.services.implement.SkillServiceImplment;
 import com.portfolio.backend.repositories.SkillRepository;
 
@@ -15,39 +32,168 @@ import java.util.stream.Collectors;
 @Service
 
 public class SkillService implements SkillServiceImplment {
+    /* unique index on (category, skill_name), see V4__skill_natural_key.sql */
+    private static final String SKILL_KEY_CONSTRAINT = "skill_category_skill_name_key";
+
     private final SkillRepository skillRepository;
+    private final SkillJdbcRepository skillJdbcRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CacheManager cacheManager;
+    private final int bulkBatchSize;
+    private final boolean softDelete;
     private final Logger log = LoggerFactory.getLogger(SkillService.class);
 
-    public SkillService(SkillRepository skillRepository) {
+    public SkillService(SkillRepository skillRepository, SkillJdbcRepository skillJdbcRepository,
+                        ApplicationEventPublisher eventPublisher, CacheManager cacheManager,
+                        @Value("${portfolio.skills.bulk.batch-size:500}") int bulkBatchSize,
+                        @Value("${portfolio.skills.soft-delete:false}") boolean softDelete) {
         this.skillRepository = skillRepository;
+        this.skillJdbcRepository = skillJdbcRepository;
+        this.eventPublisher = eventPublisher;
+        this.cacheManager = cacheManager;
+        this.bulkBatchSize = bulkBatchSize;
+        this.softDelete = softDelete;
     }
 
+    /**
+     * Inserts a new skill.
+     *
+     * @param skillDto the skill, its id is ignored
+     * @throws SkillAlreadyExistsException if a live or soft deleted skill has the same (category, skill_name)
+     */
     @Override
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfiguration.SKILLS_CACHE, allEntries = true)
     public void createSkill(SkillDto skillDto) {
         Skill skill = Skill.builder().category(skillDto.getCategory()).
                 skill_name(skillDto.getSkill_name()).
                 framework(skillDto.getFramework()).
                 icon(skillDto.getIcon()).
                 build();
-        skillRepository.save(skill);
+        saveUnique(skill);
+        eventPublisher.publishEvent(new SkillCatalogChangedEvent());
+        eventPublisher.publishEvent(EntityChangedEvent.local(ChangedEntity.SKILL, skill.getId()));
         log.info("Created skill with id {}", skill.getId());
     }
 
-    //we assume that skill doesn't have a dependencies with another entities and is not transactional
+    /**
+     * Replaces the fields of an existing skill.
+     *
+     * @param id the id of the skill
+     * @param skillDto the new values, its id is ignored
+     * @throws EntityNotFoundException if there is no skill with this id
+     * @throws SkillAlreadyExistsException if another skill has the new (category, skill_name)
+     */
+    @Override
+    @Transactional
+    @CacheEvict(cacheNames = {CacheConfiguration.SKILLS_CACHE, CacheConfiguration.SKILL_CACHE}, allEntries = true)
+    public void updateSkill(Long id, SkillDto skillDto) {
+        Skill skill = skillRepository.findById(id).orElseThrow(() -> new EntityNotFoundException("Skill with id " + id + " not found"));
+        skill.setCategory(skillDto.getCategory());
+        skill.setSkill_name(skillDto.getSkill_name());
+        skill.setFramework(skillDto.getFramework());
+        skill.setIcon(skillDto.getIcon());
+        saveUnique(skill);
+        eventPublisher.publishEvent(new SkillCatalogChangedEvent());
+        eventPublisher.publishEvent(EntityChangedEvent.local(ChangedEntity.SKILL, id));
+        log.info("Updated skill with id {}", id);
+    }
+
+    //flushes at once: the unique violation has to surface here, not at the commit
+    private void saveUnique(Skill skill) {
+        try {
+            skillRepository.saveAndFlush(skill);
+        } catch (DataIntegrityViolationException e) {
+            if (e.getCause() instanceof ConstraintViolationException violation
+                    && SKILL_KEY_CONSTRAINT.equals(violation.getConstraintName())) {
+                throw new SkillAlreadyExistsException(String.format("Skill %s already exists in category %s",
+                        skill.getSkill_name(), skill.getCategory()));
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Inserts or updates skills by (category, skill_name) in a single transaction.
+     * <p>
+     * The skills are consumed lazily and sent to the database in multi-row upserts of
+     * {@code portfolio.skills.bulk.batch-size}, so a streamed request body is never fully buffered.
+     * The skill caches are cleared once, after the commit.
+     * </p>
+     *
+     * @param skills the skills to upsert
+     * @return the number of inserted or updated skills
+     * @throws InvalidSkillException if a skill has no category or skill_name, nothing is written then
+     */
+    @Override
+    @Transactional
+    @CacheEvict(cacheNames = {CacheConfiguration.SKILLS_CACHE, CacheConfiguration.SKILL_CACHE}, allEntries = true)
+    public int upsertSkills(Iterator<SkillDto> skills) {
+        List<SkillDto> batch = new ArrayList<>(bulkBatchSize);
+        int upserted = 0;
+        while (skills.hasNext()) {
+            SkillDto skillDto = skills.next();
+            if (StringUtils.isBlank(skillDto.getCategory()) || StringUtils.isBlank(skillDto.getSkill_name())) {
+                throw new InvalidSkillException("Skill without category or skill_name: " + skillDto);
+            }
+            batch.add(skillDto);
+            if (batch.size() == bulkBatchSize) {
+                upserted += skillJdbcRepository.upsert(batch);
+                batch.clear();
+            }
+        }
+        upserted += skillJdbcRepository.upsert(batch);
+        eventPublisher.publishEvent(new SkillCatalogChangedEvent());
+        eventPublisher.publishEvent(EntityChangedEvent.local(ChangedEntity.SKILL, null));
+        log.info("Upserted {} skills", upserted);
+        return upserted;
+    }
+
+    //we assume that skill doesn't have a dependencies with another entities
     @Override
+    @Transactional
+    @CacheEvict(cacheNames = {CacheConfiguration.SKILLS_CACHE, CacheConfiguration.SKILL_CACHE}, allEntries = true)
     public void deleteSkill(Long id) {
         log.info("Attempting to delete skill with ID: {}", id);
 
-        // Vérifier si le skill existe
-        skillRepository.findById(id)
-                .orElseThrow(() -> {
-                    log.warn("Skill with id {} not found for deletion", id);
-                    return new EntityNotFoundException(String.format("Skill with id %d not found", id));
-                });
+        if (removeSkills(List.of(id)) == 0) {
+            log.warn("Skill with id {} not found for deletion", id);
+            throw new EntityNotFoundException(String.format("Skill with id %d not found", id));
+        }
+    }
+
+    /**
+     * Deletes the given skills with one statement instead of loading and deleting them one by one.
+     * <p>
+     * With {@code portfolio.skills.soft-delete=true} the rows are only tombstoned and stay hidden
+     * from every skill query. The skill caches are cleared once, after the commit.
+     * </p>
+     *
+     * @param ids the ids of the skills to delete
+     * @return the number of deleted skills, unknown ids are ignored
+     */
+    @Override
+    @Transactional
+    @CacheEvict(cacheNames = {CacheConfiguration.SKILLS_CACHE, CacheConfiguration.SKILL_CACHE}, allEntries = true)
+    public int deleteSkills(Collection<Long> ids) {
+        int deleted = removeSkills(ids);
+        log.info("Deleted {} of {} requested skills", deleted, ids.size());
+        return deleted;
+    }
+
+    private int removeSkills(Collection<Long> ids) {
+        Set<Long> distinctIds = new HashSet<>(ids);
+        eventPublisher.publishEvent(new SkillCatalogChangedEvent());
+        // one event per transaction: a bulk delete clears the cached skills and queries once, not per id
+        Long changedId = distinctIds.size() == 1 ? distinctIds.iterator().next() : null;
+        eventPublisher.publishEvent(EntityChangedEvent.local(ChangedEntity.SKILL, changedId));
+        return softDelete ? skillJdbcRepository.softDeleteByIds(distinctIds) : skillJdbcRepository.deleteByIds(distinctIds);
     }
 
 
     @Override
+    @Cacheable(cacheNames = CacheConfiguration.SKILLS_CACHE, sync = true)
+    @Transactional(readOnly = true)
     public List<SkillDto> getAllSkills() {
         if (!skillRepository.findAll().isEmpty()) {
             List<Skill> skills = skillRepository.findAll();
@@ -58,6 +204,8 @@ public class SkillService implements SkillServiceImplment {
 
     private SkillDto mapToSkillDto(Skill skill) {
        return SkillDto.builder().
+                id(skill.getId()).
+                category(skill.getCategory()).
                 skill_name(skill.getSkill_name()).
                 framework(skill.getFramework()).
                 icon(skill.getIcon()).
@@ -65,9 +213,57 @@ public class SkillService implements SkillServiceImplment {
     }
 
     @Override
+    @Cacheable(cacheNames = CacheConfiguration.SKILL_CACHE, sync = true)
+    @Transactional(readOnly = true)
     public SkillDto getSkillDtoById(Long id) {
         Skill skill= skillRepository.findById(id).orElseThrow(() -> new EntityNotFoundException("Skill with id " + id + " not found"));
        return  mapToSkillDto(skill);
     }
 
+    /**
+     * Returns the skills of the given ids with one query at most.
+     * <p>
+     * The skills are first looked up in the single skill cache (shared with
+     * {@link #getSkillDtoById(Long)}); the misses are read with one {@code WHERE id IN (...)} query
+     * and not cached: a plain put would bypass the single-flight loading of the cache and could store
+     * a skill read before a concurrent update, after that update evicted it.
+     * </p>
+     *
+     * @param ids the ids of the skills, duplicates are ignored
+     * @return the skills in the order of the ids, and the ids without a skill
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public SkillBatchDto getSkillDtosByIds(Collection<Long> ids) {
+        Set<Long> distinctIds = new LinkedHashSet<>(ids);
+        Cache cache = cacheManager.getCache(CacheConfiguration.SKILL_CACHE);
+        Map<Long, SkillDto> found = new HashMap<>();
+        List<Long> misses = new ArrayList<>();
+        for (Long id : distinctIds) {
+            SkillDto cached = cache.get(id, SkillDto.class);
+            if (cached != null) {
+                found.put(id, cached);
+            } else {
+                misses.add(id);
+            }
+        }
+        if (!misses.isEmpty()) {
+            for (Skill skill : skillRepository.findAllById(misses)) {
+                found.put(skill.getId(), mapToSkillDto(skill));
+            }
+        }
+
+        List<SkillDto> skills = new ArrayList<>(found.size());
+        List<Long> missingIds = new ArrayList<>();
+        for (Long id : distinctIds) {
+            SkillDto skillDto = found.get(id);
+            if (skillDto != null) {
+                skills.add(skillDto);
+            } else {
+                missingIds.add(id);
+            }
+        }
+        return SkillBatchDto.builder().skills(skills).missingIds(missingIds).build();
+    }
+
 }
@@ -35,4 +35,24 @@ public interface AuthService {
      * @return an {@link AuthenticationResponse} containing the JWT token and user details
      */
     AuthenticationResponse authenticate( AuthenticationRequest authenticationRequest);
+
+    /**
+     * Exchanges a refresh token for a new access token and a new refresh token.
+     * <p>
+     * The refresh token is rotated: the one passed in is revoked, so a stolen refresh token
+     * can be used at most once.
+     * </p>
+     *
+     * @param refreshToken the refresh token returned by the last login or refresh
+     * @return an {@link AuthenticationResponse} containing the new token pair and user details
+     */
+    AuthenticationResponse refresh(String refreshToken);
+
+    /**
+     * Revokes the given tokens; either of them may be {@code null}.
+     *
+     * @param accessToken the access token of the session
+     * @param refreshToken the refresh token of the session
+     */
+    void logout(String accessToken, String refreshToken);
 }
\ No newline at end of file
@@ -3,19 +3,25 @@ package com.portfolio.backend.services.auth;
 import java.util.List;
 
 
+import com.portfolio.backend.cluster.ChangedEntity;
+import com.portfolio.backend.cluster.EntityChangedEvent;
 import com.portfolio.backend.dtos.AuthenticationRequest;
 import com.portfolio.backend.dtos.AuthenticationResponse;
 import com.portfolio.backend.dtos.SignupRequest;
 import com.portfolio.backend.dtos.UserDto;
 import com.portfolio.backend.entity.Role;
 import com.portfolio.backend.entity.User;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.authentication.BadCredentialsException;
 
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.RequestBody;
 
 import jakarta.persistence.EntityExistsException;
@@ -38,6 +44,7 @@ public class AuthServiceImpl implements AuthService{
     private final UserRepository userRepository;
     private final JwtUtil jwtUtil;
     private final UserService userService;
+    private final ApplicationEventPublisher eventPublisher;
     private static final Logger logger = LoggerFactory.getLogger(AuthServiceImpl.class);
     /**
      * Creates a new user based on the provided signup request.
@@ -52,6 +59,7 @@ public class AuthServiceImpl implements AuthService{
      * @return a {@link UserDto} representing the newly created user
      * @throws EntityExistsException if a user with the same email already exists and the password matches
      */
+    @Transactional
     public UserDto createUser (SignupRequest signupRequest){
         if(userRepository.findFirstByEmail(signupRequest.getEmail()).isPresent()){
             if(new BCryptPasswordEncoder().matches(signupRequest.getPassword(),userRepository.findFirstByEmail(signupRequest.getEmail()).get().getPassword())){
@@ -67,11 +75,14 @@ public class AuthServiceImpl implements AuthService{
         if(signupRequest.getEmail().endsWith("@djanguicore.com")){
             logger.info("User with email: " + signupRequest.getEmail() + " is an admin");
             user.setRole(Role.ADMIN);
+            user.addRole(Role.ADMIN);
         }else {
             logger.info("User with email: " + signupRequest.getEmail() + " is a simple user");
             user.setRole(Role.USER);
+            user.addRole(Role.USER);
         }
         User createdUser = userRepository.save(user);
+        eventPublisher.publishEvent(EntityChangedEvent.local(ChangedEntity.USER, createdUser.getId()));
         return createdUser.getUserDto();
 
     }
@@ -110,14 +121,56 @@ public class AuthServiceImpl implements AuthService{
         final UserDetails userDetails = userService.userDetailsService().loadUserByUsername(theUser.getEmail());
 
         User optionalUser = theUser;
-        final String jwt = jwtUtil.generateToken(userDetails);
+        return createAuthenticationResponse(userDetails, optionalUser);
+    }
+
+    /**
+     * Exchanges a refresh token for a new token pair and revokes it.
+     *
+     * @param refreshToken the refresh token returned by the last login or refresh
+     * @return an {@link AuthenticationResponse} containing the new tokens and user details
+     * @throws BadCredentialsException if the refresh token is invalid, expired or was already used
+     */
+    public AuthenticationResponse refresh(String refreshToken){
+        final Claims claims;
+        try{
+            claims = jwtUtil.parseRefreshToken(refreshToken);
+        }catch(JwtException | IllegalArgumentException e){
+            throw new BadCredentialsException("Invalid refresh token.");
+        }
+        // test-and-set: of two concurrent exchanges of the same token, only one revokes it
+        if(!jwtUtil.revoke(claims)){
+            throw new BadCredentialsException("Invalid refresh token.");
+        }
+
+        final UserDetails userDetails = userService.userDetailsService().loadUserByUsername(claims.getSubject());
+        return createAuthenticationResponse(userDetails, (User) userDetails);
+    }
+
+    /**
+     * Revokes the access and refresh tokens of a session until they expire.
+     *
+     * @param accessToken the access token, may be {@code null}
+     * @param refreshToken the refresh token, may be {@code null}
+     */
+    public void logout(String accessToken, String refreshToken){
+        if(accessToken != null){
+            jwtUtil.revoke(accessToken);
+        }
+        if(refreshToken != null){
+            jwtUtil.revoke(refreshToken);
+        }
+    }
+
+    private AuthenticationResponse createAuthenticationResponse(UserDetails userDetails, User user){
         //TODO : create a builder ? :) es ist viel besser
         AuthenticationResponse authenticationResponse = new AuthenticationResponse();
 
-        authenticationResponse.setJwt(jwt);
-        authenticationResponse.setUserId(optionalUser.getId());
-        authenticationResponse.setFirstName(optionalUser.getFirstName());
-        authenticationResponse.setLastName(optionalUser.getLastName());
+        authenticationResponse.setJwt(jwtUtil.generateToken(userDetails));
+        authenticationResponse.setRefreshToken(jwtUtil.generateRefreshToken(userDetails));
+        authenticationResponse.setUserId(user.getId());
+        authenticationResponse.setFirstName(user.getFirstName());
+        authenticationResponse.setLastName(user.getLastName());
 
         return authenticationResponse;
     }
@@ -0,0 +1,165 @@
+package com.portfolio.backend.services.auth;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Remembers revoked token ids (jti) until the tokens expire, in a fixed amount of memory.
+ * <p>
+ * Revocations are grouped by the expiry window of their token. Each window has a Bloom filter, and
+ * the filters form a ring that covers the longest token lifetime: when time moves past a window,
+ * its tokens are expired anyway and the slot is cleared and reused for a future window. Memory is
+ * therefore {@code slots * bits-per-filter}, whatever the number of tokens issued or revoked.
+ * </p>
+ * <p>
+ * A check looks at the single filter of the token's expiry window and probes a fixed number of
+ * bits: O(1), lock free and without allocation. A Bloom filter can report a token as revoked that
+ * was not (false positive rate {@code portfolio.jwt.revocation.false-positive-rate} while a window
+ * holds at most {@code expected-per-window} revocations); that user simply has to log in again.
+ * </p>
+ * <p>
+ * {@link #revoke} is a test-and-set: it tells whether the token was revoked by this call, so that a
+ * refresh token exchanged twice at the same time is only accepted once. The filters are local to the
+ * instance; the revocations of the other instances are received through the
+ * {@link com.portfolio.backend.cluster.InvalidationBus} when it is enabled.
+ * </p>
+ */
+@Component
+public class TokenRevocationStore {
+
+    private final long windowMillis;
+    private final Bucket[] ring;
+
+    public TokenRevocationStore(@Value("${portfolio.jwt.refresh-token-ttl:7d}") Duration maxTokenTtl,
+                                @Value("${portfolio.jwt.revocation.window:1h}") Duration window,
+                                @Value("${portfolio.jwt.revocation.expected-per-window:1000}") int expectedPerWindow,
+                                @Value("${portfolio.jwt.revocation.false-positive-rate:1e-6}") double falsePositiveRate) {
+        this.windowMillis = window.toMillis();
+        // +2: the window in progress and the one the longest lived token issued now expires in
+        int slots = (int) (maxTokenTtl.toMillis() / windowMillis) + 2;
+        int bits = (int) Math.ceil(-expectedPerWindow * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int hashes = Math.max(1, (int) Math.round((double) bits / expectedPerWindow * Math.log(2)));
+        this.ring = new Bucket[slots];
+        for (int i = 0; i < slots; i++) {
+            ring[i] = new Bucket(bits, hashes);
+        }
+    }
+
+    /**
+     * Revokes a token until it expires.
+     *
+     * @param jti the id of the token
+     * @param expiresAtMillis the expiry of the token, epoch millis
+     * @return true if the token was revoked by this call, false if it was (probably) revoked already
+     * or has expired
+     */
+    public boolean revoke(String jti, long expiresAtMillis) {
+        if (expiresAtMillis <= System.currentTimeMillis()) {
+            return false;
+        }
+        long window = expiresAtMillis / windowMillis;
+        Bucket bucket = ring[(int) (window % ring.length)];
+        bucket.claim(window);
+        return bucket.add(jti);
+    }
+
+    /**
+     * @param jti the id of the token
+     * @param expiresAtMillis the expiry of the token, epoch millis
+     * @return true if the token was (probably) revoked
+     */
+    public boolean isRevoked(String jti, long expiresAtMillis) {
+        long window = expiresAtMillis / windowMillis;
+        Bucket bucket = ring[(int) (window % ring.length)];
+        return bucket.window == window && bucket.mightContain(jti);
+    }
+
+    /**
+     * Bloom filter of the tokens expiring in one window.
+     */
+    private static final class Bucket {
+        private final AtomicLongArray bits;
+        private final int bitCount;
+        private final int hashes;
+        private volatile long window = -1;
+
+        Bucket(int bitCount, int hashes) {
+            this.bits = new AtomicLongArray((bitCount + 63) >>> 6);
+            this.bitCount = bitCount;
+            this.hashes = hashes;
+        }
+
+        /**
+         * Recycles the slot for a later window, the tokens of the previous one have expired.
+         */
+        void claim(long newWindow) {
+            if (window == newWindow) {
+                return;
+            }
+            synchronized (this) {
+                if (window < newWindow) {
+                    for (int i = 0; i < bits.length(); i++) {
+                        bits.set(i, 0L);
+                    }
+                    window = newWindow;
+                }
+            }
+        }
+
+        /**
+         * Adds the token, unless it is (probably) already in the filter. Adds are serialized with
+         * each other and with {@link #claim}: two threads adding the same token cannot both see it
+         * absent. Checks stay lock free.
+         *
+         * @return true if a bit was set by this call, i.e. the token was not in the filter
+         */
+        synchronized boolean add(String jti) {
+            long h1 = hash(jti, 0x9E3779B97F4A7C15L);
+            long h2 = hash(jti, 0xC2B2AE3D27D4EB4FL) | 1;
+            boolean added = false;
+            for (int i = 0; i < hashes; i++) {
+                int bit = index(h1 + i * h2);
+                long mask = 1L << bit;
+                if ((bits.getAndAccumulate(bit >>> 6, mask, (current, set) -> current | set) & mask) == 0) {
+                    added = true;
+                }
+            }
+            return added;
+        }
+
+        boolean mightContain(String jti) {
+            long h1 = hash(jti, 0x9E3779B97F4A7C15L);
+            long h2 = hash(jti, 0xC2B2AE3D27D4EB4FL) | 1;
+            for (int i = 0; i < hashes; i++) {
+                int bit = index(h1 + i * h2);
+                if ((bits.get(bit >>> 6) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private int index(long hash) {
+            return (int) Long.remainderUnsigned(hash, bitCount);
+        }
+
+        /**
+         * 64-bit multiplicative hash over the chars of the string, finished with the murmur3 mixer.
+         */
+        private static long hash(String value, long seed) {
+            long h = seed;
+            for (int i = 0; i < value.length(); i++) {
+                h = (h ^ value.charAt(i)) * 0x100000001B3L;
+            }
+            h ^= h >>> 33;
+            h *= 0xFF51AFD7ED558CCDL;
+            h ^= h >>> 33;
+            h *= 0xC4CEB9FE1A85EC53L;
+            h ^= h >>> 33;
+            return h;
+        }
+    }
+}
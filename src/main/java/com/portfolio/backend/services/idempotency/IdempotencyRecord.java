@@ -0,0 +1,21 @@
+package com.portfolio.backend.services.idempotency;
+
+/**
+ * What an {@link IdempotencyStore} holds for a key: the request that first used it and, once that
+ * request completed, its response.
+ *
+ * @param fingerprint the SHA-256 of the first request body, a retry must send the same body
+ * @param status the response status, {@code 0} while the first request is still being processed
+ * @param contentType the response content type, may be {@code null}
+ * @param body the response body
+ */
+public record IdempotencyRecord(String fingerprint, int status, String contentType, byte[] body) {
+
+    public static IdempotencyRecord inProgress(String fingerprint) {
+        return new IdempotencyRecord(fingerprint, 0, null, null);
+    }
+
+    public boolean isInProgress() {
+        return status == 0;
+    }
+}
@@ -0,0 +1,24 @@
+package com.portfolio.backend.services.idempotency;
+
+/**
+ * The outcome of {@link IdempotencyStore#reserve}: either the key is now reserved for the request,
+ * or what is already recorded for it.
+ *
+ * @param owner identifies the reservation, passed back to {@link IdempotencyStore#complete} and
+ *              {@link IdempotencyStore#release}; {@code null} when the key was not reserved
+ * @param recorded what is recorded for the key, {@code null} when it was reserved
+ */
+public record IdempotencyReservation(Object owner, IdempotencyRecord recorded) {
+
+    public static IdempotencyReservation reserved(Object owner) {
+        return new IdempotencyReservation(owner, null);
+    }
+
+    public static IdempotencyReservation recorded(IdempotencyRecord recorded) {
+        return new IdempotencyReservation(null, recorded);
+    }
+
+    public boolean isReserved() {
+        return owner != null;
+    }
+}
@@ -0,0 +1,35 @@
+package com.portfolio.backend.services.idempotency;
+
+/**
+ * Records the first response of each {@code Idempotency-Key}, see
+ * {@link com.portfolio.backend.configs.IdempotencyFilter}. The keys expire after
+ * {@code portfolio.idempotency.ttl}.
+ * <p>
+ * A reservation whose lease expired may be taken over by a retry. The request that lost it can
+ * still finish, so completing or releasing a key only applies to the reservation of the caller,
+ * identified by the owner returned by {@link #reserve}.
+ * </p>
+ */
+public interface IdempotencyStore {
+
+    /**
+     * Reserves the key for the request being processed, unless it is already known.
+     *
+     * @param key the idempotency key, scoped to the endpoint and the user
+     * @param fingerprint the fingerprint of the request
+     * @return the owner of the reservation if the key was reserved for this request, otherwise what
+     *         is recorded for it
+     */
+    IdempotencyReservation reserve(String key, String fingerprint);
+
+    /**
+     * Records the response of the request that reserved the key, unless the reservation was taken over.
+     */
+    void complete(String key, Object owner, IdempotencyRecord completed);
+
+    /**
+     * Forgets a reserved key whose request failed, so that a retry processes it again. Does nothing
+     * if the reservation was taken over.
+     */
+    void release(String key, Object owner);
+}
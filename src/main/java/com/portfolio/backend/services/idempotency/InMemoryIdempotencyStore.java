@@ -0,0 +1,108 @@
+package com.portfolio.backend.services.idempotency;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Keeps the idempotency keys in memory, bounded to {@code portfolio.idempotency.max-entries}.
+ * <p>
+ * All keys live for the same TTL, so the order of reservation is also the order of expiry: the
+ * queue is purged from its head on every reservation, the expired keys first and then the oldest
+ * ones while the store is over its bound. A reservation still without response after
+ * {@code portfolio.idempotency.lease} is taken over by the next retry, the entry itself is the owner
+ * of the reservation: the request that lost it can no longer complete or release the key. A released
+ * or taken over entry leaves the queue at once, failing requests do not make it grow. A retry costs
+ * one map lookup. The keys are only known to
+ * this instance, use {@code portfolio.idempotency.store=jdbc} when the retries of a client may reach
+ * another one.
+ * </p>
+ */
+@Component
+@ConditionalOnProperty(name = "portfolio.idempotency.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryIdempotencyStore implements IdempotencyStore {
+
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<Entry> expiryOrder = new ConcurrentLinkedQueue<>();
+    private final long ttlNanos;
+    private final long leaseNanos;
+    private final int maxEntries;
+
+    public InMemoryIdempotencyStore(@Value("${portfolio.idempotency.ttl:24h}") Duration ttl,
+                                    @Value("${portfolio.idempotency.lease:1m}") Duration lease,
+                                    @Value("${portfolio.idempotency.max-entries:10000}") int maxEntries) {
+        this.ttlNanos = ttl.toNanos();
+        this.leaseNanos = lease.toNanos();
+        this.maxEntries = maxEntries;
+    }
+
+    @Override
+    public IdempotencyReservation reserve(String key, String fingerprint) {
+        long now = System.nanoTime();
+        purge(now);
+        Entry reserved = new Entry(key, now + leaseNanos, now + ttlNanos, IdempotencyRecord.inProgress(fingerprint));
+        Entry existing = entries.putIfAbsent(key, reserved);
+        if (existing != null && (existing.isExpired(now) || existing.isLeaseExpired(now))
+                && entries.replace(key, existing, reserved)) {
+            expiryOrder.remove(existing);
+            existing = null;
+        }
+        if (existing != null) {
+            return IdempotencyReservation.recorded(existing.record);
+        }
+        expiryOrder.add(reserved);
+        return IdempotencyReservation.reserved(reserved);
+    }
+
+    @Override
+    public void complete(String key, Object owner, IdempotencyRecord completed) {
+        // a taken over entry is no longer mapped, its record is never read again
+        ((Entry) owner).record = completed;
+    }
+
+    @Override
+    public void release(String key, Object owner) {
+        if (entries.remove(key, owner)) {
+            // recent entries sit at the tail, the scan is only paid by failed requests
+            expiryOrder.remove(owner);
+        }
+    }
+
+    private void purge(long now) {
+        Entry oldest;
+        while ((oldest = expiryOrder.peek()) != null && (oldest.isExpired(now) || entries.size() > maxEntries)) {
+            // a concurrent purge may have taken it already, the head is then as good a candidate
+            Entry purged = expiryOrder.poll();
+            if (purged != null) {
+                entries.remove(purged.key, purged);
+            }
+        }
+    }
+
+    private static final class Entry {
+
+        private final String key;
+        private final long leaseExpiresAt;
+        private final long expiresAt;
+        private volatile IdempotencyRecord record;
+
+        private Entry(String key, long leaseExpiresAt, long expiresAt, IdempotencyRecord record) {
+            this.key = key;
+            this.leaseExpiresAt = leaseExpiresAt;
+            this.expiresAt = expiresAt;
+            this.record = record;
+        }
+
+        private boolean isExpired(long now) {
+            return now - expiresAt >= 0;
+        }
+
+        private boolean isLeaseExpired(long now) {
+            return record.isInProgress() && now - leaseExpiresAt >= 0;
+        }
+    }
+}
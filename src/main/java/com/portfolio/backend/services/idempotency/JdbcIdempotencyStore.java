@@ -0,0 +1,98 @@
+package com.portfolio.backend.services.idempotency;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * Keeps the idempotency keys in the {@code idempotency_keys} table, so that a retry reaching another
+ * instance is recognized too.
+ * <p>
+ * A key is reserved with one {@code INSERT ... ON CONFLICT}, which also takes over a row older than
+ * the TTL, or a reservation without response older than {@code portfolio.idempotency.lease} (its
+ * instance died before completing or releasing it); only a retry reads the recorded response. The
+ * {@code created_at} returned by the reservation identifies its owner, completing or releasing the
+ * key only matches that row: after a takeover the request that lost the key cannot overwrite or
+ * delete the reservation of the new one. Each statement commits on its own, the
+ * reservation is visible to the other instances before the request is processed. Expired rows are
+ * deleted every {@code portfolio.idempotency.purge-interval}.
+ * </p>
+ */
+@Component
+@ConditionalOnProperty(name = "portfolio.idempotency.store", havingValue = "jdbc")
+public class JdbcIdempotencyStore implements IdempotencyStore {
+
+    static final String RESERVE_SQL = """
+            INSERT INTO idempotency_keys (idempotency_key, fingerprint) VALUES (?, ?)
+            ON CONFLICT (idempotency_key) DO UPDATE
+            SET fingerprint = EXCLUDED.fingerprint, status = NULL, content_type = NULL, body = NULL, created_at = now()
+            WHERE idempotency_keys.created_at < now() - ? * INTERVAL '1 millisecond'
+               OR (idempotency_keys.status IS NULL AND idempotency_keys.created_at < now() - ? * INTERVAL '1 millisecond')
+            RETURNING created_at
+            """;
+
+    static final String SELECT_SQL = "SELECT fingerprint, status, content_type, body FROM idempotency_keys WHERE idempotency_key = ?";
+
+    static final String COMPLETE_SQL = """
+            UPDATE idempotency_keys SET status = ?, content_type = ?, body = ?
+            WHERE idempotency_key = ? AND created_at = ? AND status IS NULL
+            """;
+
+    static final String RELEASE_SQL = "DELETE FROM idempotency_keys WHERE idempotency_key = ? AND created_at = ? AND status IS NULL";
+
+    static final String PURGE_SQL = "DELETE FROM idempotency_keys WHERE created_at < now() - ? * INTERVAL '1 millisecond'";
+
+    private static final Logger log = LoggerFactory.getLogger(JdbcIdempotencyStore.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final long ttlMillis;
+    private final long leaseMillis;
+
+    public JdbcIdempotencyStore(JdbcTemplate jdbcTemplate, @Value("${portfolio.idempotency.ttl:24h}") Duration ttl,
+                                @Value("${portfolio.idempotency.lease:1m}") Duration lease) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.ttlMillis = ttl.toMillis();
+        this.leaseMillis = lease.toMillis();
+    }
+
+    @Override
+    public IdempotencyReservation reserve(String key, String fingerprint) {
+        List<OffsetDateTime> reserved = jdbcTemplate.query(RESERVE_SQL,
+                (rs, rowNum) -> rs.getObject("created_at", OffsetDateTime.class), key, fingerprint, ttlMillis, leaseMillis);
+        if (!reserved.isEmpty()) {
+            return IdempotencyReservation.reserved(reserved.getFirst());
+        }
+        // the row was released or purged in between, the key is free again
+        return jdbcTemplate.query(SELECT_SQL, (rs, rowNum) -> IdempotencyReservation.recorded(new IdempotencyRecord(
+                        rs.getString("fingerprint"), rs.getInt("status"), rs.getString("content_type"), rs.getBytes("body"))),
+                key).stream().findFirst().orElseGet(() -> reserve(key, fingerprint));
+    }
+
+    @Override
+    public void complete(String key, Object owner, IdempotencyRecord completed) {
+        if (jdbcTemplate.update(COMPLETE_SQL, completed.status(), completed.contentType(), completed.body(), key, owner) == 0) {
+            log.debug("Idempotency key {} was taken over before its response was recorded", key);
+        }
+    }
+
+    @Override
+    public void release(String key, Object owner) {
+        jdbcTemplate.update(RELEASE_SQL, key, owner);
+    }
+
+    @Scheduled(fixedDelayString = "${portfolio.idempotency.purge-interval:10m}")
+    public void purgeExpired() {
+        int purged = jdbcTemplate.update(PURGE_SQL, ttlMillis);
+        if (purged > 0) {
+            log.debug("Purged {} expired idempotency keys", purged);
+        }
+    }
+}
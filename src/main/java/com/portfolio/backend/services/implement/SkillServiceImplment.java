@@ -1,12 +1,19 @@
 package com.portfolio.backend.services.implement;
 
+import com.portfolio.backend.dtos.SkillBatchDto;
 import com.portfolio.backend.dtos.SkillDto;
 
+import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 
 public interface SkillServiceImplment {
 void createSkill(SkillDto skillDto);
+void updateSkill(Long id, SkillDto skillDto);
+int upsertSkills(Iterator<SkillDto> skills);
 void deleteSkill(Long id);
+int deleteSkills(Collection<Long> ids);
 List<SkillDto> getAllSkills();
 SkillDto getSkillDtoById(Long id);
+SkillBatchDto getSkillDtosByIds(Collection<Long> ids);
 }
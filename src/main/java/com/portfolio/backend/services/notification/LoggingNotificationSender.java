@@ -0,0 +1,22 @@
+package com.portfolio.backend.services.notification;
+
+import com.portfolio.backend.dtos.ContactUsFormularDto;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Fake {@link NotificationSender} logging the notifications instead of sending them.
+ */
+@Component
+@ConditionalOnProperty(name = "portfolio.notifications.sender", havingValue = "log", matchIfMissing = true)
+public class LoggingNotificationSender implements NotificationSender {
+
+    private static final Logger log = LoggerFactory.getLogger(LoggingNotificationSender.class);
+
+    @Override
+    public void sendContactUsNotification(ContactUsFormularDto message) {
+        log.info("New contact-us message from {} <{}>: {}", message.getFirstName(), message.getEmail(), message.getMessage());
+    }
+}
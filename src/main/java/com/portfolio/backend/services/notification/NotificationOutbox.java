@@ -0,0 +1,38 @@
+package com.portfolio.backend.services.notification;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portfolio.backend.dtos.ContactUsFormularDto;
+import com.portfolio.backend.repositories.NotificationOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Queues notifications in the outbox table, in the transaction of the data they announce.
+ * Nothing is sent here: {@link NotificationOutboxDispatcher} delivers them in the background.
+ */
+@Service
+@RequiredArgsConstructor
+public class NotificationOutbox {
+
+    static final String CONTACT_US = "contact-us";
+
+    private final NotificationOutboxRepository outboxRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Queues the notification of a new contact-us message.
+     *
+     * @param message the message being stored in the current transaction
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueueContactUsNotification(ContactUsFormularDto message) {
+        try {
+            outboxRepository.append(CONTACT_US, objectMapper.writeValueAsString(message));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize the contact-us notification", e);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.portfolio.backend.services.notification;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portfolio.backend.dtos.ContactUsFormularDto;
+import com.portfolio.backend.repositories.NotificationOutboxRepository;
+import com.portfolio.backend.repositories.NotificationOutboxRepository.OutboxEntry;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Drains the notification outbox in the background.
+ * <p>
+ * Every {@code portfolio.notifications.poll-interval} the due notifications are claimed by batches of
+ * {@code portfolio.notifications.batch-size} and handed to the {@link NotificationSender}. A failed
+ * notification is retried with an exponential backoff ({@code initial-backoff}, doubled per attempt,
+ * at most {@code max-backoff}) and given up after {@code max-attempts}. The form POST only inserts
+ * the outbox row, a slow or unreachable mail server never delays it.
+ * </p>
+ * <p>
+ * Sent and given up notifications are deleted once older than {@code portfolio.notifications.retention},
+ * checked every {@code portfolio.notifications.purge-interval}.
+ * </p>
+ * <p>
+ * Disabled with {@code portfolio.notifications.dispatcher.enabled=false} (e.g. the AOT training run of
+ * the image); the notifications then stay in the outbox until an instance with the dispatcher starts.
+ * </p>
+ */
+@Component
+@ConditionalOnProperty(name = "portfolio.notifications.dispatcher.enabled", havingValue = "true", matchIfMissing = true)
+public class NotificationOutboxDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(NotificationOutboxDispatcher.class);
+
+    private final NotificationOutboxRepository outboxRepository;
+    private final NotificationSender sender;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration lease;
+    private final Duration retention;
+
+    public NotificationOutboxDispatcher(NotificationOutboxRepository outboxRepository, NotificationSender sender,
+                                        ObjectMapper objectMapper,
+                                        @Value("${portfolio.notifications.batch-size:50}") int batchSize,
+                                        @Value("${portfolio.notifications.max-attempts:8}") int maxAttempts,
+                                        @Value("${portfolio.notifications.initial-backoff:30s}") Duration initialBackoff,
+                                        @Value("${portfolio.notifications.max-backoff:1h}") Duration maxBackoff,
+                                        @Value("${portfolio.notifications.lease:5m}") Duration lease,
+                                        @Value("${portfolio.notifications.retention:7d}") Duration retention) {
+        this.outboxRepository = outboxRepository;
+        this.sender = sender;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.lease = lease;
+        this.retention = retention;
+    }
+
+    @Scheduled(fixedDelayString = "${portfolio.notifications.poll-interval:5s}")
+    public void dispatch() {
+        List<OutboxEntry> entries;
+        do {
+            entries = outboxRepository.claim(batchSize, lease);
+            for (OutboxEntry entry : entries) {
+                deliver(entry);
+            }
+        } while (entries.size() == batchSize);
+    }
+
+    @Scheduled(fixedDelayString = "${portfolio.notifications.purge-interval:1h}")
+    public void purgeFinished() {
+        int purged = outboxRepository.purgeFinished(retention);
+        if (purged > 0) {
+            log.debug("Purged {} finished notifications", purged);
+        }
+    }
+
+    private void deliver(OutboxEntry entry) {
+        try {
+            switch (entry.kind()) {
+                case NotificationOutbox.CONTACT_US -> sender.sendContactUsNotification(
+                        objectMapper.readValue(entry.payload(), ContactUsFormularDto.class));
+                default -> throw new IllegalStateException("Unknown notification kind " + entry.kind());
+            }
+            outboxRepository.markSent(entry.id());
+        } catch (Exception e) {
+            int attempts = entry.attempts() + 1;
+            boolean giveUp = attempts >= maxAttempts;
+            Duration retryIn = backoff(attempts);
+            outboxRepository.markFailed(entry.id(), StringUtils.abbreviate(String.valueOf(e.getMessage()), 1000), retryIn, giveUp);
+            if (giveUp) {
+                log.error("Giving up notification {} after {} attempts", entry.id(), attempts, e);
+            } else {
+                log.warn("Notification {} failed (attempt {}), retrying in {}: {}", entry.id(), attempts, retryIn, e.getMessage());
+            }
+        }
+    }
+
+    private Duration backoff(int attempts) {
+        Duration backoff = initialBackoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+        return backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff;
+    }
+}
@@ -0,0 +1,21 @@
+package com.portfolio.backend.services.notification;
+
+import com.portfolio.backend.dtos.ContactUsFormularDto;
+
+/**
+ * Delivers the notifications drained from the outbox by {@link NotificationOutboxDispatcher}.
+ * <p>
+ * {@code portfolio.notifications.sender} picks the implementation: {@code smtp} sends emails,
+ * {@code log} (default) only logs them, for local development and tests.
+ * </p>
+ */
+public interface NotificationSender {
+
+    /**
+     * Notifies the site owner of a new contact-us message.
+     *
+     * @param message the stored message
+     * @throws RuntimeException if the notification could not be delivered, it is retried later
+     */
+    void sendContactUsNotification(ContactUsFormularDto message);
+}
@@ -0,0 +1,42 @@
+package com.portfolio.backend.services.notification;
+
+import com.portfolio.backend.dtos.ContactUsFormularDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link NotificationSender} emailing the site owner through the {@code spring.mail.*} SMTP server.
+ */
+@Component
+@ConditionalOnProperty(name = "portfolio.notifications.sender", havingValue = "smtp")
+public class SmtpNotificationSender implements NotificationSender {
+
+    private final JavaMailSender mailSender;
+    private final String from;
+    private final String to;
+
+    public SmtpNotificationSender(JavaMailSender mailSender,
+                                  @Value("${portfolio.notifications.from}") String from,
+                                  @Value("${portfolio.notifications.to}") String to) {
+        this.mailSender = mailSender;
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    public void sendContactUsNotification(ContactUsFormularDto message) {
+        SimpleMailMessage mail = new SimpleMailMessage();
+        mail.setFrom(from);
+        mail.setTo(to);
+        mail.setReplyTo(message.getEmail());
+        mail.setSubject("New contact-us message from " + message.getFirstName()
+                + (message.getLastName() != null ? " " + message.getLastName() : ""));
+        mail.setText(message.getMessage()
+                + "\n\n--\n" + message.getEmail()
+                + (message.getPhoneNumber() != null ? "\n" + message.getPhoneNumber() : ""));
+        mailSender.send(mail);
+    }
+}
@@ -1,15 +1,11 @@
 package com.portfolio.backend.services.userService;
 
 import com.portfolio.backend.dtos.UserDto;
+import com.portfolio.backend.dtos.UserResponseDto;
 import com.portfolio.backend.entity.Role;
 import org.springframework.data.domain.Page;
-import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.userdetails.UserDetailsService;
 
-
-
-import java.util.List;
-
 /**
  * Service interface for managing user-related operations.
  * <p>
@@ -32,15 +28,17 @@ public interface UserService {
     UserDetailsService userDetailsService();
 
     /**
-     * Retrieves a list of all users.
+     * Retrieves one page of users ordered by id.
      * <p>
-     * This method fetches all users from the system. The returned response is typically a
-     * list or collection of users wrapped in a {@link ResponseEntity}.
+     * Pages are addressed with a cursor instead of an offset, so every page costs the same
+     * whatever its position in the list.
      * </p>
      *
-     * @return a {@link ResponseEntity} containing the list of users
+     * @param cursor the {@code nextCursor} of the previous page, or {@code null} for the first page
+     * @param pageSize the number of users per page
+     * @return a {@link UserResponseDto} with the users of the page and the cursor of the next one
      */
-    ResponseEntity<?> getUsers();
+    UserResponseDto getUsers(String cursor, int pageSize);
 
     /**
      * Retrieves a user by their unique ID.
@@ -54,7 +52,19 @@ public interface UserService {
      */
     UserDto getUserById(Long id);
 
-    List<UserDto> getUserByRole(Role role);
+    /**
+     * Retrieves one page of the users of a role ordered by first name, addressed by cursor.
+     *
+     * @param role the role of the users to be retrieved
+     * @param cursor the {@code nextCursor} of the previous page, or {@code null} for the first page
+     * @param pageSize the number of users per page
+     * @return a {@link UserResponseDto} with the users of the page and the cursor of the next one
+     */
+    UserResponseDto getUserByRole(Role role, String cursor, int pageSize);
 
+    /**
+     * Retrieves a numbered page of the users of a role ordered by first name.
+     * Prefer {@link #getUserByRole(Role, String, int)} for deep pages, this one counts and skips rows.
+     */
     Page<UserDto> getFirstByRole(Role role,int pageNumber, int pageSize);
 }
\ No newline at end of file
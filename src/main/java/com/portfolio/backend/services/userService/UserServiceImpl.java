@@ -1,23 +1,26 @@
 package com.portfolio.backend.services.userService;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
+import com.portfolio.backend.configs.CacheConfiguration;
 import com.portfolio.backend.dtos.UserDto;
 import com.portfolio.backend.dtos.UserResponseDto;
 import com.portfolio.backend.entity.Role;
 import com.portfolio.backend.entity.User;
-import org.springframework.beans.factory.annotation.Autowired;
+import com.portfolio.backend.exceptions.InvalidCursorException;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
-import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 
 import lombok.RequiredArgsConstructor;
@@ -33,13 +36,19 @@ import com.portfolio.backend.repositories.UserRepository;
  */
 @Service
 @RequiredArgsConstructor
+@Transactional(readOnly = true)
 public class UserServiceImpl implements UserService {
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final UserRepository userRepository;
+    private final CacheManager cacheManager;
 
     /**
      * Provides the {@link UserDetailsService} to load user details by username (email).
      * <p>
      * This method is used for user authentication, where the user's details are loaded by their username (email).
+     * The users are cached ({@link CacheConfiguration#USER_PRINCIPAL_CACHE}): the JWT filter loads the
+     * user of every authenticated request, concurrent requests of a user share one query.
      * </p>
      *
      * @return a {@link UserDetailsService} instance that loads user details by username
@@ -49,28 +58,42 @@ public class UserServiceImpl implements UserService {
 
             @Override
             public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-                return userRepository.findFirstByEmail(username).orElseThrow(() -> new UsernameNotFoundException("User not Found"));
+                try {
+                    return cacheManager.getCache(CacheConfiguration.USER_PRINCIPAL_CACHE).get(username,
+                            () -> userRepository.findFirstByEmail(username).orElseThrow(() -> new UsernameNotFoundException("User not Found")));
+                } catch (Cache.ValueRetrievalException e) {
+                    if (e.getCause() instanceof UsernameNotFoundException notFound) {
+                        throw notFound;
+                    }
+                    throw e;
+                }
             }
         };
     }
 
     /**
-     * Retrieves a list of all users in the system.
+     * Retrieves one page of users ordered by id.
      * <p>
-     * This method fetches all users from the database and returns a {@link ResponseEntity} containing a
-     * {@link UserResponseDto}, which is a list of {@link UserDto} objects representing the users.
+     * Only the {@link UserDto} columns are selected and the page starts right after the id held by
+     * the cursor, so memory and query cost do not grow with the number of users.
      * </p>
      *
-     * @return a {@link ResponseEntity} containing the list of all users wrapped in a {@link UserResponseDto}
+     * @param cursor the cursor of the previous page, or {@code null} for the first page
+     * @param pageSize the number of users per page, capped at 100
+     * @return the users of the page wrapped in a {@link UserResponseDto}
+     * @throws InvalidCursorException if the cursor was not issued by this service
      */
-    public ResponseEntity<?> getUsers() {
-
-        List<User> userList = userRepository.findAll();
+    public UserResponseDto getUsers(String cursor, int pageSize) {
+        Pageable pageable = firstPage(pageSize);
+        long afterId = cursor == null ? 0 : parseId(decodeCursor(cursor));
+        List<UserDto> users = userRepository.findAllAfter(afterId, pageable);
 
         UserResponseDto userResponseDto = new UserResponseDto();
-        userResponseDto.setUserDtoList(userList.stream().map(User::getUserDto).collect(Collectors.toList()));
-
-        return ResponseEntity.ok(userResponseDto);
+        userResponseDto.setUserDtoList(users);
+        if (users.size() == pageable.getPageSize()) {
+            userResponseDto.setNextCursor(encodeCursor(String.valueOf(users.getLast().getId())));
+        }
+        return userResponseDto;
     }
 
     /**
@@ -99,24 +122,73 @@ public class UserServiceImpl implements UserService {
     }
 
     /**
-     * Retrieves a list of users filtered by their assigned role.
+     * Retrieves one page of the users of a role ordered by (first name, id).
+     * <p>
+     * The cursor holds the first name and id of the last user of the previous page; the next page is
+     * read from the (role, first_name, id) index starting at that position.
+     * </p>
      *
      * @param role the role of the users to be retrieved
-     * @return a list of {@link UserDto} objects representing users with the specified role
+     * @param cursor the cursor of the previous page, or {@code null} for the first page
+     * @param pageSize the number of users per page, capped at 100
+     * @return the users of the page wrapped in a {@link UserResponseDto}
+     * @throws InvalidCursorException if the cursor was not issued by this service
      */
     @Override
-    public List<UserDto> getUserByRole(Role role) {
-        List<User> userList = userRepository.findByRole(role);
-        return userList.stream().map(User::getUserDto).collect(Collectors.toList());
+    public UserResponseDto getUserByRole(Role role, String cursor, int pageSize) {
+        Pageable pageable = firstPage(pageSize);
+        List<UserDto> users;
+        if (cursor == null) {
+            users = userRepository.findByRoleFirst(role, pageable);
+        } else {
+            String[] position = decodeCursor(cursor).split(":", 2);
+            if (position.length != 2) {
+                throw new InvalidCursorException("Invalid cursor");
+            }
+            users = userRepository.findByRoleAfter(role, position[1], parseId(position[0]), pageable);
+        }
+
+        UserResponseDto userResponseDto = new UserResponseDto();
+        userResponseDto.setUserDtoList(users);
+        if (users.size() == pageable.getPageSize()) {
+            UserDto last = users.getLast();
+            userResponseDto.setNextCursor(encodeCursor(last.getId() + ":" + last.getFirstName()));
+        }
+        return userResponseDto;
     }
+
+    /**
+     * Retrieves a numbered page of the users of a role ordered by (first name, id).
+     * The order is part of the projection query, it is no longer derived from a {@link UserDto} property path.
+     * The page size is clamped to [1, 100], as for the keyset pages, and a negative page number reads
+     * the first page instead of failing in {@link PageRequest}.
+     */
     @Override
     public Page<UserDto> getFirstByRole(Role role,int pageNumber, int pageSize) {
+        return userRepository.findPageByRole(role, PageRequest.of(Math.max(pageNumber, 0), Math.clamp(pageSize, 1, MAX_PAGE_SIZE)));
+    }
+
+    private static Pageable firstPage(int pageSize) {
+        return PageRequest.of(0, Math.clamp(pageSize, 1, MAX_PAGE_SIZE));
+    }
+
+    private static String encodeCursor(String position) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decodeCursor(String cursor) {
+        try {
+            return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException("Invalid cursor");
+        }
+    }
 
-        //typeSort erstellen
-        Sort.TypedSort<UserDto> userDtoTypedSort= Sort.sort(UserDto.class);
-        Sort sort = userDtoTypedSort.by(UserDto::getFirstName).ascending();
-        //
-        Pageable pageable = PageRequest.of(pageNumber, pageSize, sort);
-        return userRepository.findAllByRole(role,pageable).map(User::getUserDto);
+    private static long parseId(String id) {
+        try {
+            return Long.parseLong(id);
+        } catch (NumberFormatException e) {
+            throw new InvalidCursorException("Invalid cursor");
+        }
     }
 }
\ No newline at end of file
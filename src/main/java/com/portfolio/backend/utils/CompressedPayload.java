@@ -0,0 +1,135 @@
+package com.portfolio.backend.utils;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.HexFormat;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * A response body compressed once, when it is built, instead of on every request.
+ * <p>
+ * The body is kept as is and gzipped at the best compression level; each request only picks
+ * the representation matching its {@code Accept-Encoding}. Both representations have their own
+ * ETag, so a conditional request is answered with 304 without sending the body again.
+ * </p>
+ * <p>
+ * Brotli is not produced: the JDK has no brotli encoder and the gain over gzip -9 is small for
+ * payloads of this size.
+ * </p>
+ */
+public final class CompressedPayload {
+
+    private static final String GZIP = "gzip";
+
+    private final MediaType contentType;
+    private final byte[] identity;
+    private final byte[] gzip;
+    private final String etag;
+
+    private CompressedPayload(MediaType contentType, byte[] identity, byte[] gzip, String etag) {
+        this.contentType = contentType;
+        this.identity = identity;
+        this.gzip = gzip;
+        this.etag = etag;
+    }
+
+    /**
+     * Compresses the body. The gzip representation is dropped when it is not smaller.
+     *
+     * @param contentType the media type of the body
+     * @param body the uncompressed body, not copied
+     * @return the payload
+     */
+    public static CompressedPayload of(MediaType contentType, byte[] body) {
+        byte[] gzip = gzip(body);
+        CRC32 crc = new CRC32();
+        crc.update(body);
+        String etag = HexFormat.of().toHexDigits(crc.getValue()) + "-" + body.length;
+        return new CompressedPayload(contentType, body, gzip.length < body.length ? gzip : null, etag);
+    }
+
+    private static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 4 + 64);
+        try (GZIPOutputStream gzipStream = new GZIPOutputStream(out) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            gzipStream.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * @return the size of the uncompressed body
+     */
+    public int size() {
+        return identity.length;
+    }
+
+    /**
+     * @return the size of the gzip representation, or of the body when it is not compressed
+     */
+    public int compressedSize() {
+        return gzip != null ? gzip.length : identity.length;
+    }
+
+    /**
+     * Builds the response for the request: the gzip representation when the client accepts it,
+     * or a 304 when the client already holds the representation.
+     *
+     * @param request the current request
+     * @param cacheControl the cache control of the response
+     * @return the response, {@code null} when a 304 has been prepared by {@code checkNotModified}
+     */
+    public ResponseEntity<byte[]> toResponse(WebRequest request, CacheControl cacheControl) {
+        boolean compressed = gzip != null && acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        String representationEtag = "\"" + etag + (compressed ? "-" + GZIP : "") + "\"";
+        if (request.checkNotModified(representationEtag)) {
+            return null;
+        }
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(contentType)
+                .cacheControl(cacheControl)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                .eTag(representationEtag);
+        if (compressed) {
+            response.header(HttpHeaders.CONTENT_ENCODING, GZIP);
+        }
+        return response.body(compressed ? gzip : identity);
+    }
+
+    /**
+     * Whether the {@code Accept-Encoding} header accepts gzip, i.e. lists {@code gzip} or {@code *}
+     * without {@code q=0}.
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        boolean wildcard = false;
+        for (String coding : acceptEncoding.split(",")) {
+            int parameters = coding.indexOf(';');
+            String name = (parameters < 0 ? coding : coding.substring(0, parameters)).trim();
+            boolean accepted = parameters < 0 || !coding.substring(parameters + 1).replace(" ", "").matches("q=0(\\.0*)?");
+            if (name.equalsIgnoreCase(GZIP)) {
+                return accepted;
+            }
+            if (name.equals("*")) {
+                wildcard = accepted;
+            }
+        }
+        return wildcard;
+    }
+}
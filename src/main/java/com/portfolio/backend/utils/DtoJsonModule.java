@@ -0,0 +1,246 @@
+package com.portfolio.backend.utils;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.introspect.Annotated;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.portfolio.backend.dtos.AuthenticationResponse;
+import com.portfolio.backend.dtos.ContactUsFormularDto;
+import com.portfolio.backend.dtos.SkillDto;
+import com.portfolio.backend.dtos.UserDto;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedElement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Hand-written Jackson serializers of the DTOs written by (almost) every response: skills, users,
+ * authentication responses and contact-us messages.
+ * <p>
+ * The default bean serializer finds the properties by reflection once, but still goes through a
+ * property writer, an accessor call and a null check per field, and encodes each field name when
+ * it is written. These serializers call the getters directly and write field names pre-encoded
+ * ({@link SerializedString} keeps their quoted UTF-8 bytes), straight into the generator buffer.
+ * Only serialization is replaced, requests are still read by the default deserializers.
+ * </p>
+ * <p>
+ * A hand-written serializer only replaces the bean serializer Jackson built for its DTO when both
+ * write the same thing: the mapper includes all properties or the non-null ones
+ * ({@code spring.jackson.default-property-inclusion}), the DTO and its properties carry no Jackson
+ * annotation and no mix-in, and the properties are the expected ones in the expected order (no naming
+ * strategy, no sorting). Otherwise the bean serializer is kept, correct but slower, and a warning is
+ * logged. Keep the serializers in sync with the DTOs: {@code DtoJsonModuleTests} fails when one of them
+ * is no longer used or no longer writes what the bean serializer writes. The gain is measured by the
+ * JMH benchmarks of {@code src/jmh/java} ({@code ./mvnw -Pjmh test-compile exec:exec}).
+ * </p>
+ */
+public class DtoJsonModule extends SimpleModule {
+
+    private static final Logger log = LoggerFactory.getLogger(DtoJsonModule.class);
+
+    private static final SerializableString ID = new SerializedString("id");
+    private static final SerializableString CATEGORY = new SerializedString("category");
+    private static final SerializableString SKILL_NAME = new SerializedString("skill_name");
+    private static final SerializableString FRAMEWORK = new SerializedString("framework");
+    private static final SerializableString ICON = new SerializedString("icon");
+    private static final SerializableString FIRST_NAME = new SerializedString("firstName");
+    private static final SerializableString LAST_NAME = new SerializedString("lastName");
+    private static final SerializableString EMAIL = new SerializedString("email");
+    private static final SerializableString PHONE_NUMBER = new SerializedString("phoneNumber");
+    private static final SerializableString MESSAGE = new SerializedString("message");
+    private static final SerializableString JWT = new SerializedString("jwt");
+    private static final SerializableString REFRESH_TOKEN = new SerializedString("refreshToken");
+    private static final SerializableString USER_ID = new SerializedString("userId");
+
+    /**
+     * The properties each serializer writes, in order, and how to create it for a null inclusion.
+     */
+    private record HandWritten(List<SerializableString> properties, Function<Boolean, JsonSerializer<?>> serializer) {
+    }
+
+    private static final Map<Class<?>, HandWritten> SERIALIZERS = Map.of(
+            SkillDto.class, new HandWritten(List.of(ID, CATEGORY, SKILL_NAME, FRAMEWORK, ICON), SkillDtoSerializer::new),
+            UserDto.class, new HandWritten(List.of(ID, FIRST_NAME, LAST_NAME, EMAIL), UserDtoSerializer::new),
+            AuthenticationResponse.class, new HandWritten(List.of(JWT, REFRESH_TOKEN, USER_ID, FIRST_NAME, LAST_NAME),
+                    AuthenticationResponseSerializer::new),
+            ContactUsFormularDto.class, new HandWritten(List.of(FIRST_NAME, LAST_NAME, PHONE_NUMBER, EMAIL, MESSAGE),
+                    ContactUsFormularDtoSerializer::new));
+
+    public DtoJsonModule() {
+        super("portfolio-dtos");
+        setSerializerModifier(new HandWrittenSerializerModifier());
+    }
+
+    static final class HandWrittenSerializerModifier extends BeanSerializerModifier {
+
+        @Override
+        public JsonSerializer<?> modifySerializer(SerializationConfig config, BeanDescription beanDesc, JsonSerializer<?> serializer) {
+            Class<?> type = beanDesc.getBeanClass();
+            HandWritten handWritten = SERIALIZERS.get(type);
+            if (handWritten == null) {
+                return serializer;
+            }
+            JsonInclude.Include inclusion = config.getDefaultPropertyInclusion(type).getValueInclusion();
+            boolean writeNulls;
+            switch (inclusion) {
+                case ALWAYS, USE_DEFAULTS -> writeNulls = true;
+                case NON_NULL, NON_ABSENT -> writeNulls = false;
+                default -> {
+                    return keep(type, "property inclusion " + inclusion, serializer);
+                }
+            }
+            if (config.findMixInClassFor(type) != null || hasJacksonAnnotation(type)) {
+                return keep(type, "Jackson annotations", serializer);
+            }
+            List<String> properties = new ArrayList<>();
+            for (BeanPropertyDefinition property : beanDesc.findProperties()) {
+                if (property.getAccessor() == null) {
+                    continue;
+                }
+                if (hasJacksonAnnotation(property.getGetter()) || hasJacksonAnnotation(property.getField())) {
+                    return keep(type, "Jackson annotations on " + property.getName(), serializer);
+                }
+                properties.add(property.getName());
+            }
+            List<String> expected = handWritten.properties().stream().map(SerializableString::getValue).toList();
+            if (!properties.equals(expected)) {
+                return keep(type, "properties " + properties + " instead of " + expected, serializer);
+            }
+            return handWritten.serializer().apply(writeNulls);
+        }
+
+        private static JsonSerializer<?> keep(Class<?> type, String reason, JsonSerializer<?> serializer) {
+            log.warn("{} is written by the default bean serializer, not by DtoJsonModule: {}", type.getSimpleName(), reason);
+            return serializer;
+        }
+
+        private static boolean hasJacksonAnnotation(Annotated member) {
+            return member != null && hasJacksonAnnotation(member.getAnnotated());
+        }
+
+        private static boolean hasJacksonAnnotation(AnnotatedElement element) {
+            for (Annotation annotation : element.getAnnotations()) {
+                if (annotation.annotationType().getName().startsWith("com.fasterxml.jackson.")) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    abstract static class DtoSerializer<T> extends StdSerializer<T> {
+
+        private final boolean writeNulls;
+
+        DtoSerializer(Class<T> type, boolean writeNulls) {
+            super(type);
+            this.writeNulls = writeNulls;
+        }
+
+        final void writeString(JsonGenerator gen, SerializableString name, String value) throws IOException {
+            if (value != null) {
+                gen.writeFieldName(name);
+                gen.writeString(value);
+            } else if (writeNulls) {
+                gen.writeFieldName(name);
+                gen.writeNull();
+            }
+        }
+
+        final void writeNumber(JsonGenerator gen, SerializableString name, Long value) throws IOException {
+            if (value != null) {
+                gen.writeFieldName(name);
+                gen.writeNumber(value);
+            } else if (writeNulls) {
+                gen.writeFieldName(name);
+                gen.writeNull();
+            }
+        }
+    }
+
+    static final class SkillDtoSerializer extends DtoSerializer<SkillDto> {
+
+        SkillDtoSerializer(boolean writeNulls) {
+            super(SkillDto.class, writeNulls);
+        }
+
+        @Override
+        public void serialize(SkillDto skill, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(skill);
+            writeNumber(gen, ID, skill.getId());
+            writeString(gen, CATEGORY, skill.getCategory());
+            writeString(gen, SKILL_NAME, skill.getSkill_name());
+            writeString(gen, FRAMEWORK, skill.getFramework());
+            writeString(gen, ICON, skill.getIcon());
+            gen.writeEndObject();
+        }
+    }
+
+    static final class UserDtoSerializer extends DtoSerializer<UserDto> {
+
+        UserDtoSerializer(boolean writeNulls) {
+            super(UserDto.class, writeNulls);
+        }
+
+        @Override
+        public void serialize(UserDto user, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(user);
+            writeNumber(gen, ID, user.getId());
+            writeString(gen, FIRST_NAME, user.getFirstName());
+            writeString(gen, LAST_NAME, user.getLastName());
+            writeString(gen, EMAIL, user.getEmail());
+            gen.writeEndObject();
+        }
+    }
+
+    static final class AuthenticationResponseSerializer extends DtoSerializer<AuthenticationResponse> {
+
+        AuthenticationResponseSerializer(boolean writeNulls) {
+            super(AuthenticationResponse.class, writeNulls);
+        }
+
+        @Override
+        public void serialize(AuthenticationResponse response, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(response);
+            writeString(gen, JWT, response.getJwt());
+            writeString(gen, REFRESH_TOKEN, response.getRefreshToken());
+            writeNumber(gen, USER_ID, response.getUserId());
+            writeString(gen, FIRST_NAME, response.getFirstName());
+            writeString(gen, LAST_NAME, response.getLastName());
+            gen.writeEndObject();
+        }
+    }
+
+    static final class ContactUsFormularDtoSerializer extends DtoSerializer<ContactUsFormularDto> {
+
+        ContactUsFormularDtoSerializer(boolean writeNulls) {
+            super(ContactUsFormularDto.class, writeNulls);
+        }
+
+        @Override
+        public void serialize(ContactUsFormularDto message, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(message);
+            writeString(gen, FIRST_NAME, message.getFirstName());
+            writeString(gen, LAST_NAME, message.getLastName());
+            writeString(gen, PHONE_NUMBER, message.getPhoneNumber());
+            writeString(gen, EMAIL, message.getEmail());
+            writeString(gen, MESSAGE, message.getMessage());
+            gen.writeEndObject();
+        }
+    }
+}
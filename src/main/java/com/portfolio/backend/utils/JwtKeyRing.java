@@ -0,0 +1,163 @@
+package com.portfolio.backend.utils;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.security.Jwk;
+import io.jsonwebtoken.security.JwkSet;
+import io.jsonwebtoken.security.Jwks;
+import io.jsonwebtoken.security.PrivateJwk;
+import io.jsonwebtoken.security.PublicJwk;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.security.KeyPair;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The asymmetric keys used to sign and verify the JWTs, identified by their {@code kid}.
+ * <p>
+ * The keys are read from a JWK set holding private keys ({@code portfolio.jwt.keys}, ES256 or Ed25519).
+ * Tokens are signed with the active key ({@code portfolio.jwt.active-kid}, the first key of the set by
+ * default) and verified with whichever key their {@code kid} header names. To rotate, add the new key to
+ * the set and make it active; drop the old key once the last token it signed has expired
+ * ({@code portfolio.jwt.refresh-token-ttl}).
+ * The application does not start without a key set, unless {@code portfolio.jwt.generate-key} allows a
+ * throwaway key (development and tests).
+ * </p>
+ * <p>
+ * The public keys are published at {@code /.well-known/jwks.json} so that other services verify
+ * portfolio tokens locally. The document is serialized once, here, and served as is.
+ * </p>
+ */
+@Component
+public class JwtKeyRing extends LocatorAdapter<Key> {
+
+    private static final Logger logger = LoggerFactory.getLogger(JwtKeyRing.class);
+
+    private final String activeKid;
+    private final PrivateKey signingKey;
+    private final Map<String, PublicKey> verificationKeys;
+    private final byte[] jwks;
+
+    public JwtKeyRing(@Value("${portfolio.jwt.keys:#{null}}") Resource keys,
+                      @Value("${portfolio.jwt.active-kid:}") String activeKid,
+                      @Value("${portfolio.jwt.generate-key:false}") boolean generateKey,
+                      ObjectMapper objectMapper) throws IOException {
+        if (keys == null && !generateKey) {
+            throw new IllegalStateException("portfolio.jwt.keys is not set; a generated key is only allowed with "
+                    + "portfolio.jwt.generate-key=true (development and tests)");
+        }
+        List<PrivateJwk<?, ?, ?>> privateJwks = keys != null ? load(keys) : List.of(generate());
+
+        Map<String, PrivateJwk<?, ?, ?>> byKid = new LinkedHashMap<>();
+        for (PrivateJwk<?, ?, ?> jwk : privateJwks) {
+            if (jwk.getId() == null || byKid.putIfAbsent(jwk.getId(), jwk) != null) {
+                throw new IllegalStateException("Every JWT key needs a unique kid");
+            }
+        }
+        this.activeKid = activeKid.isEmpty() ? byKid.keySet().iterator().next() : activeKid;
+        if (!byKid.containsKey(this.activeKid)) {
+            throw new IllegalStateException("No JWT key with kid " + this.activeKid);
+        }
+        this.signingKey = byKid.get(this.activeKid).toKey();
+
+        Map<String, PublicKey> verificationKeys = new HashMap<>();
+        List<PublicJwk<?>> publicJwks = new ArrayList<>();
+        byKid.forEach((kid, jwk) -> {
+            PublicJwk<?> publicJwk = jwk.toPublicJwk();
+            verificationKeys.put(kid, publicJwk.toKey());
+            publicJwks.add(publicJwk);
+        });
+        this.verificationKeys = Map.copyOf(verificationKeys);
+        this.jwks = serialize(objectMapper, publicJwks);
+        logger.info("JWT key ring loaded with kids {}, signing with {}", byKid.keySet(), this.activeKid);
+    }
+
+    private static List<PrivateJwk<?, ?, ?>> load(Resource keys) throws IOException {
+        JwkSet set;
+        try (Reader reader = new InputStreamReader(keys.getInputStream(), StandardCharsets.UTF_8)) {
+            set = Jwks.setParser().build().parse(reader);
+        }
+        List<PrivateJwk<?, ?, ?>> privateJwks = new ArrayList<>();
+        for (Jwk<?> jwk : set.getKeys()) {
+            if (!(jwk instanceof PrivateJwk<?, ?, ?> privateJwk)) {
+                throw new IllegalStateException("JWT key " + jwk.getId() + " has no private part");
+            }
+            privateJwks.add(privateJwk);
+        }
+        if (privateJwks.isEmpty()) {
+            throw new IllegalStateException("No JWT key in " + keys.getDescription());
+        }
+        return privateJwks;
+    }
+
+    /**
+     * Without a configured key set, a throwaway ES256 key is generated: tokens do not survive a
+     * restart and are not accepted by other instances. Only allowed with {@code portfolio.jwt.generate-key}.
+     */
+    private static PrivateJwk<?, ?, ?> generate() {
+        logger.warn("portfolio.jwt.keys is not set, signing JWTs with a generated key");
+        KeyPair keyPair = Jwts.SIG.ES256.keyPair().build();
+        return Jwks.builder().keyPair(keyPair).idFromThumbprint().build();
+    }
+
+    private static byte[] serialize(ObjectMapper objectMapper, List<PublicJwk<?>> publicJwks) {
+        try {
+            return objectMapper.writeValueAsBytes(Map.of("keys", publicJwks));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize the JWK set", e);
+        }
+    }
+
+    /**
+     * @return the id of the key new tokens are signed with
+     */
+    public String getActiveKid() {
+        return activeKid;
+    }
+
+    /**
+     * @return the private key new tokens are signed with
+     */
+    public PrivateKey getSigningKey() {
+        return signingKey;
+    }
+
+    /**
+     * @return the public JWK set as JSON; the array is shared and must not be modified
+     */
+    public byte[] getJwks() {
+        return jwks;
+    }
+
+    /**
+     * Resolves the verification key of a signed token from its {@code kid} header.
+     */
+    @Override
+    protected Key locate(JwsHeader header) {
+        String kid = header.getKeyId();
+        PublicKey key = kid == null ? null : verificationKeys.get(kid);
+        if (key == null) {
+            throw new JwtException("Unknown JWT key id " + kid);
+        }
+        return key;
+    }
+}
@@ -1,17 +1,21 @@
 package com.portfolio.backend.utils;
 
+import com.portfolio.backend.cluster.TokenRevokedEvent;
+import com.portfolio.backend.services.auth.TokenRevocationStore;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SignatureAlgorithm;
-import io.jsonwebtoken.io.Decoders;
-import io.jsonwebtoken.security.Keys;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
-import java.security.Key;
+import java.time.Duration;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 import java.util.function.Function;
 
 
@@ -19,74 +23,191 @@ import java.util.function.Function;
  * Utility class for handling JSON Web Tokens (JWT) operations.
  * <p>
  * This class provides methods to generate, validate, and extract claims from JWTs.
- * It uses the HMAC SHA-256 algorithm for signing tokens and includes methods to
- * check token validity, extract user information, and retrieve token expiration details.
+ * Tokens are signed with the active key of the {@link JwtKeyRing} (ES256 or EdDSA), whose id is
+ * set as the {@code kid} header, and verified with the key their {@code kid} names.
+ * </p>
+ * <p>
+ * Two kinds of tokens are issued, told apart by the {@value #TOKEN_TYPE_CLAIM} claim: short-lived
+ * access tokens sent with every request, and long-lived refresh tokens only accepted by
+ * {@code /api/auth/refresh}. Every token carries a unique id (jti) so that it can be revoked
+ * through the {@link TokenRevocationStore}.
  * </p>
  */
 @Component
 public class JwtUtil {
 
+    static final String TOKEN_TYPE_CLAIM = "token_type";
+    static final String ACCESS_TOKEN = "access";
+    static final String REFRESH_TOKEN = "refresh";
+
+    private final JwtKeyRing keyRing;
+    private final JwtParser parser;
+    private final TokenRevocationStore revocationStore;
+    private final ApplicationEventPublisher eventPublisher;
+    private final long accessTokenTtlMillis;
+    private final long refreshTokenTtlMillis;
+
+    public JwtUtil(JwtKeyRing keyRing,
+                   TokenRevocationStore revocationStore,
+                   ApplicationEventPublisher eventPublisher,
+                   @Value("${portfolio.jwt.access-token-ttl:15m}") Duration accessTokenTtl,
+                   @Value("${portfolio.jwt.refresh-token-ttl:7d}") Duration refreshTokenTtl) {
+        this.keyRing = keyRing;
+        this.parser = Jwts.parser().keyLocator(keyRing).build();
+        this.revocationStore = revocationStore;
+        this.eventPublisher = eventPublisher;
+        this.accessTokenTtlMillis = accessTokenTtl.toMillis();
+        this.refreshTokenTtlMillis = refreshTokenTtl.toMillis();
+    }
+
      /**
      * Generates a JWT token with extra claims and user details.
      * <p>
      * This method creates a JWT token that contains the provided extra claims, the user's
-     * username as the subject, the issue date (current time), and an expiration time (7 days).
-     * The token is signed using the HMAC SHA-256 algorithm and the provided signing key.
+     * username as the subject, a random token id, the issue date (current time) and the given time to live.
+     * The token is signed with the active key of the key ring, named by the {@code kid} header.
      * </p>
      * 
      * @param extraClaims Additional claims to include in the token.
      * @param details The {@link UserDetails} containing the username for the subject of the token.
+     * @param ttlMillis The lifetime of the token.
      * @return The generated JWT token as a String.
      */
-     @SuppressWarnings("deprecation")
-    private String generateToken(Map<String, Object> extraClaims, UserDetails details){
-        return Jwts.builder().setClaims(extraClaims).setSubject(details.getUsername())
-                    .setIssuedAt(new Date(System.currentTimeMillis()))
-                    .setExpiration(new Date(System.currentTimeMillis() + 1000 * 60 * 60 * 24 * 7))
-                    .signWith(SignatureAlgorithm.HS256, getSigningKey()).compact();
+    private String generateToken(Map<String, Object> extraClaims, UserDetails details, long ttlMillis){
+        long now = System.currentTimeMillis();
+        return Jwts.builder().header().keyId(keyRing.getActiveKid()).and()
+                    .claims(extraClaims).subject(details.getUsername())
+                    .id(UUID.randomUUID().toString())
+                    .issuedAt(new Date(now))
+                    .expiration(new Date(now + ttlMillis))
+                    .signWith(keyRing.getSigningKey()).compact();
     }
 
     /**
-     * Generates a JWT token using the user details.
+     * Generates a short-lived access token using the user details.
      * <p>
-     * This method generates a JWT token using the provided {@link UserDetails}. It does not
-     * include any additional claims.
+     * This method generates a JWT token using the provided {@link UserDetails}. Its lifetime is
+     * {@code portfolio.jwt.access-token-ttl} (15 minutes by default).
      * </p>
      * 
      * @param userDetails The {@link UserDetails} to be used for the subject of the token.
      * @return The generated JWT token as a String.
      */
     public String generateToken(UserDetails userDetails){
-        return generateToken(new HashMap<>(), userDetails);
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(TOKEN_TYPE_CLAIM, ACCESS_TOKEN);
+        return generateToken(claims, userDetails, accessTokenTtlMillis);
     }
 
     /**
-     * Validates the JWT token against the provided user details.
+     * Generates a refresh token using the user details.
      * <p>
-     * This method checks if the username extracted from the token matches the username of the
-     * provided {@link UserDetails} and ensures that the token is not expired.
+     * Its lifetime is {@code portfolio.jwt.refresh-token-ttl} (7 days by default). A refresh token
+     * cannot be used to call the API, it can only be exchanged once for a new token pair.
      * </p>
-     * 
-     * @param token The JWT token to validate.
+     *
+     * @param userDetails The {@link UserDetails} to be used for the subject of the token.
+     * @return The generated refresh token as a String.
+     */
+    public String generateRefreshToken(UserDetails userDetails){
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(TOKEN_TYPE_CLAIM, REFRESH_TOKEN);
+        return generateToken(claims, userDetails, refreshTokenTtlMillis);
+    }
+
+    /**
+     * Verifies the signature and the expiry of a token and returns its claims.
+     * <p>
+     * The signature is verified once here, the claims are then checked with
+     * {@link #isTokenValid(Claims, UserDetails)} without parsing the token again.
+     * </p>
+     *
+     * @param token The JWT token to parse.
+     * @return The claims of the token.
+     * @throws JwtException if the token is malformed, forged, signed with an unknown key or expired
+     */
+    public Claims parseToken(String token){
+        return extractAllClaims(token);
+    }
+
+    /**
+     * Validates the claims of a parsed token against the provided user details.
+     * <p>
+     * This method checks that the token is an access token, that its subject matches the username
+     * of the provided {@link UserDetails}, that the token is not expired and that it has not been revoked.
+     * </p>
+     *
+     * @param claims The claims returned by {@link #parseToken(String)}.
      * @param userDetails The {@link UserDetails} to validate against.
      * @return {@code true} if the token is valid, otherwise {@code false}.
      */
-    public boolean isTokenValid(String token, UserDetails userDetails){
-        final String userName = extractUserName(token);
-        return (userName.equals(userDetails.getUsername())) && !isTokenExpired(token);
+    public boolean isTokenValid(Claims claims, UserDetails userDetails){
+        return ACCESS_TOKEN.equals(claims.get(TOKEN_TYPE_CLAIM))
+                && claims.getSubject().equals(userDetails.getUsername())
+                && claims.getExpiration().after(new Date())
+                && !isRevoked(claims);
+    }
+
+    /**
+     * Parses a refresh token.
+     *
+     * @param refreshToken The refresh token to parse.
+     * @return The claims of the token.
+     * @throws JwtException if the token is invalid, expired, revoked or not a refresh token
+     */
+    public Claims parseRefreshToken(String refreshToken){
+        final Claims claims = extractAllClaims(refreshToken);
+        if (!REFRESH_TOKEN.equals(claims.get(TOKEN_TYPE_CLAIM)) || isRevoked(claims)) {
+            throw new JwtException("Refresh token is not valid");
+        }
+        return claims;
+    }
+
+    /**
+     * Revokes the token until it expires; invalid or already expired tokens are ignored.
+     *
+     * @param token The JWT token to revoke.
+     */
+    public void revoke(String token){
+        try {
+            revoke(extractAllClaims(token));
+        } catch (JwtException e) {
+            // an unreadable or expired token cannot be used anyway
+        }
+    }
+
+    /**
+     * Revokes the token described by the claims until it expires, on this instance and, through a
+     * {@link TokenRevokedEvent}, on the other ones.
+     *
+     * @param claims The claims of the token to revoke.
+     * @return {@code true} if the token was revoked by this call, {@code false} if it was already revoked.
+     */
+    public boolean revoke(Claims claims){
+        long expiresAtMillis = claims.getExpiration().getTime();
+        if (!revocationStore.revoke(claims.getId(), expiresAtMillis)) {
+            return false;
+        }
+        eventPublisher.publishEvent(TokenRevokedEvent.local(claims.getId(), expiresAtMillis));
+        return true;
+    }
+
+    private boolean isRevoked(Claims claims){
+        return revocationStore.isRevoked(claims.getId(), claims.getExpiration().getTime());
     }
 
     /**
      * Extracts all claims from the JWT token.
      * <p>
-     * This method parses the JWT token and retrieves all the claims contained in it.
+     * This method verifies the signature of the JWT token with the key named by its {@code kid}
+     * header and retrieves all the claims contained in it.
      * </p>
      * 
      * @param token The JWT token to extract claims from.
      * @return The {@link Claims} extracted from the token.
      */
     private Claims extractAllClaims(String token){
-        return Jwts.parser().setSigningKey(getSigningKey()).parseClaimsJws(token).getBody();
+        return parser.parseSignedClaims(token).getPayload();
     }
 
     /**
@@ -118,44 +239,4 @@ public class JwtUtil {
     public String extractUserName(String token){
         return extractClaim(token, Claims::getSubject);
     }
-
-    /**
-     * Extracts the expiration date from the JWT token.
-     * <p>
-     * This method retrieves the expiration date from the token's claims.
-     * </p>
-     * 
-     * @param token The JWT token to extract the expiration date from.
-     * @return The expiration date of the token.
-     */
-    private Date extractExpiration(String token){
-        return extractClaim(token, Claims::getExpiration);
-    }
-
-    /**
-     * Checks if the JWT token is expired.
-     * <p>
-     * This method checks whether the token's expiration date is before the current date and time.
-     * </p>
-     * 
-     * @param token The JWT token to check.
-     * @return {@code true} if the token is expired, otherwise {@code false}.
-     */
-    private boolean isTokenExpired(String token){
-        return extractExpiration(token).before(new Date());
-    }
-
-    /**
-     * Retrieves the signing key for signing and verifying JWT tokens.
-     * <p>
-     * This method provides the signing key used to sign the JWT tokens. It decodes the base64-encoded
-     * key to produce a {@link Key} object.
-     * </p>
-     * 
-     * @return The {@link Key} used to sign the JWT tokens.
-     */
-    private Key getSigningKey(){
-        byte[] keyBytes = Decoders.BASE64.decode("413F4428472B4B62506553685660597033733676397924422645294840406351");
-        return Keys.hmacShaKeyFor(keyBytes);
-    }
-}
\ No newline at end of file
+}
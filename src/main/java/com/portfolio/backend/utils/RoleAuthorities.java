@@ -0,0 +1,83 @@
+package com.portfolio.backend.utils;
+
+import com.portfolio.backend.entity.Role;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Maps role sets to the bitmask stored in {@code users.roles_mask} and to their granted authorities.
+ * <p>
+ * There are only 2^n role combinations, so the role sets and the authority lists of every mask are
+ * built once and shared: Spring Security asks a user for its authorities several times per request,
+ * and with this table it is an array read that allocates nothing.
+ * </p>
+ * <p>
+ * Bits without a {@link Role} (a role removed from the enum, a hand-edited row) are ignored: such a
+ * mask grants the known roles only, it does not fail the authentication of the user.
+ * </p>
+ */
+public final class RoleAuthorities {
+
+    private static final Role[] ROLES = Role.values();
+    private static final int KNOWN_ROLES = (1 << ROLES.length) - 1;
+    private static final Set<Role>[] ROLE_SETS;
+    private static final List<GrantedAuthority>[] AUTHORITIES;
+
+    static {
+        int combinations = 1 << ROLES.length;
+        @SuppressWarnings("unchecked")
+        Set<Role>[] roleSets = new Set[combinations];
+        @SuppressWarnings("unchecked")
+        List<GrantedAuthority>[] authorities = new List[combinations];
+        for (int mask = 0; mask < combinations; mask++) {
+            EnumSet<Role> roles = EnumSet.noneOf(Role.class);
+            List<GrantedAuthority> granted = new ArrayList<>();
+            for (Role role : ROLES) {
+                if ((mask & bit(role)) != 0) {
+                    roles.add(role);
+                    // hasRole("ADMIN") in WebSecurityConfiguration checks the ROLE_ prefixed authority
+                    granted.add(new SimpleGrantedAuthority("ROLE_" + role.name()));
+                }
+            }
+            roleSets[mask] = Collections.unmodifiableSet(roles);
+            authorities[mask] = List.copyOf(granted);
+        }
+        ROLE_SETS = roleSets;
+        AUTHORITIES = authorities;
+    }
+
+    private RoleAuthorities() {
+    }
+
+    public static int bit(Role role) {
+        return 1 << role.ordinal();
+    }
+
+    public static int mask(Set<Role> roles) {
+        int mask = 0;
+        for (Role role : roles) {
+            mask |= bit(role);
+        }
+        return mask;
+    }
+
+    /**
+     * @return the shared, unmodifiable set of the roles of the mask, unknown bits ignored
+     */
+    public static Set<Role> roles(int mask) {
+        return ROLE_SETS[mask & KNOWN_ROLES];
+    }
+
+    /**
+     * @return the shared, immutable authority list of the roles of the mask, unknown bits ignored
+     */
+    public static List<GrantedAuthority> authorities(int mask) {
+        return AUTHORITIES[mask & KNOWN_ROLES];
+    }
+}
@@ -0,0 +1,200 @@
+package com.portfolio.backend.utils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A {@link org.springframework.cache.Cache} that loads each missing key once, however many callers
+ * ask for it at the same time.
+ * <p>
+ * Used through {@code @Cacheable(sync = true)} or {@link #get(Object, Callable)}: the first caller
+ * missing a key runs the loader, the concurrent ones wait for the same {@link CompletableFuture}
+ * instead of all querying the database (cache stampede). An entry is fresh for its TTL, randomized
+ * by &plusmn;{@code jitter} so that entries written together do not all expire together. After that
+ * it is still served for {@code staleWhileRevalidate} while one background virtual thread reloads
+ * it; only a key absent or older than that makes the callers wait.
+ * </p>
+ * <p>
+ * An eviction also cancels the loads in flight for the key: their result, read before the change,
+ * is handed to their callers but not stored. Null values are not cached.
+ * </p>
+ */
+public class SingleFlightCache extends AbstractValueAdaptingCache {
+
+    private static final Logger log = LoggerFactory.getLogger(SingleFlightCache.class);
+
+    private final String name;
+    private final long ttlNanos;
+    private final double jitter;
+    private final long staleNanos;
+    private final ConcurrentHashMap<Object, Entry> entries = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Object, CompletableFuture<Object>> loads = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder staleHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder refreshFailures = new LongAdder();
+
+    /**
+     * @param name the cache name
+     * @param ttl how long an entry is fresh
+     * @param jitter the relative randomization of the TTL, e.g. {@code 0.1} for &plusmn;10%
+     * @param staleWhileRevalidate how long an expired entry is still served while it is reloaded
+     */
+    public SingleFlightCache(String name, Duration ttl, double jitter, Duration staleWhileRevalidate) {
+        super(false);
+        this.name = name;
+        this.ttlNanos = ttl.toNanos();
+        this.jitter = jitter;
+        this.staleNanos = staleWhileRevalidate.toNanos();
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return entries;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        Entry entry = entries.get(key);
+        if (entry == null || !entry.isFresh(System.nanoTime())) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.value();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        long now = System.nanoTime();
+        Entry entry = entries.get(key);
+        if (entry != null) {
+            if (entry.isFresh(now)) {
+                hits.increment();
+                return (T) fromStoreValue(entry.value());
+            }
+            if (now - entry.staleUntil() < 0) {
+                staleHits.increment();
+                refresh(key, valueLoader);
+                return (T) fromStoreValue(entry.value());
+            }
+            entries.remove(key, entry);
+        }
+
+        CompletableFuture<Object> load = new CompletableFuture<>();
+        CompletableFuture<Object> inFlight = loads.putIfAbsent(key, load);
+        if (inFlight != null) {
+            coalesced.increment();
+            load = inFlight;
+        } else {
+            misses.increment();
+            load(key, load, valueLoader);
+        }
+        try {
+            return (T) fromStoreValue(load.join());
+        } catch (CompletionException e) {
+            throw new ValueRetrievalException(key, valueLoader, e.getCause());
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        if (value != null) {
+            entries.put(key, newEntry(toStoreValue(value)));
+        }
+    }
+
+    @Override
+    public void evict(Object key) {
+        loads.remove(key);
+        entries.remove(key);
+    }
+
+    @Override
+    public void clear() {
+        loads.clear();
+        entries.clear();
+    }
+
+    /** Reads served from a fresh entry. */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /** Reads served from an expired entry while it was reloaded in the background. */
+    public long getStaleHits() {
+        return staleHits.sum();
+    }
+
+    /** Reads that ran the loader. */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /** Reads that waited for the load of another caller instead of running the loader. */
+    public long getCoalesced() {
+        return coalesced.sum();
+    }
+
+    /** Background reloads that failed, the stale entry was kept. */
+    public long getRefreshFailures() {
+        return refreshFailures.sum();
+    }
+
+    private void refresh(Object key, Callable<?> valueLoader) {
+        CompletableFuture<Object> load = new CompletableFuture<>();
+        if (loads.putIfAbsent(key, load) != null) {
+            return;
+        }
+        load.exceptionally(e -> {
+            refreshFailures.increment();
+            log.warn("Could not refresh the entry {} of the cache {}, serving the stale one", key, name, e);
+            return null;
+        });
+        Thread.ofVirtual().name("cache-refresh-" + name).start(() -> load(key, load, valueLoader));
+    }
+
+    private void load(Object key, CompletableFuture<Object> load, Callable<?> valueLoader) {
+        try {
+            Object value = valueLoader.call();
+            // not stored if the key was evicted in the meantime
+            if (loads.remove(key, load) && value != null) {
+                entries.put(key, newEntry(value));
+            }
+            load.complete(value);
+        } catch (Throwable e) {
+            loads.remove(key, load);
+            load.completeExceptionally(e);
+        }
+    }
+
+    private Entry newEntry(Object value) {
+        long ttl = (long) (ttlNanos * (1 + jitter * ThreadLocalRandom.current().nextDouble(-1, 1)));
+        long freshUntil = System.nanoTime() + ttl;
+        return new Entry(value, freshUntil, freshUntil + staleNanos);
+    }
+
+    private record Entry(Object value, long freshUntil, long staleUntil) {
+
+        boolean isFresh(long now) {
+            return now - freshUntil < 0;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.portfolio.backend.utils;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.support.RequestContextUtils;
+import org.thymeleaf.context.WebContext;
+import org.thymeleaf.spring6.ISpringTemplateEngine;
+import org.thymeleaf.web.servlet.JakartaServletWebApplication;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Renders a Thymeleaf template whose rows come from a database cursor.
+ * <p>
+ * The rows are handed to the template as an {@link java.util.Iterator}, which {@code th:each}
+ * consumes one row at a time, and the output goes straight to the given writer. Written to the
+ * response, the browser receives the first rows while the last ones are still being read, and
+ * neither the rows nor the HTML are ever held in memory as a whole.
+ * </p>
+ * <p>
+ * The cursor needs a transaction, so a read-only transaction (and its connection) is held for the
+ * whole rendering.
+ * </p>
+ */
+@Component
+public class StreamingTemplateRenderer {
+
+    private final ISpringTemplateEngine templateEngine;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public StreamingTemplateRenderer(ISpringTemplateEngine templateEngine, PlatformTransactionManager transactionManager) {
+        this.templateEngine = templateEngine;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Renders the template with the rows of the stream.
+     *
+     * @param template the template name, e.g. {@code contact-us/list_contact_us}
+     * @param rowsVariable the name of the rows variable in the template
+     * @param rows opens the stream of rows, it is closed after the rendering
+     * @param variables the other variables of the template
+     * @param request the current request, links are resolved against it
+     * @param response the current response
+     * @param writer where the HTML is written
+     */
+    public void render(String template, String rowsVariable, Supplier<? extends Stream<?>> rows,
+                       Map<String, Object> variables, HttpServletRequest request, HttpServletResponse response,
+                       Writer writer) {
+        readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<?> stream = rows.get()) {
+                Map<String, Object> model = new HashMap<>(variables);
+                model.put(rowsVariable, stream.iterator());
+                WebContext context = new WebContext(
+                        JakartaServletWebApplication.buildApplication(request.getServletContext()).buildExchange(request, response),
+                        RequestContextUtils.getLocale(request),
+                        model);
+                templateEngine.process(template, context, writer);
+            }
+        });
+    }
+
+    /**
+     * Renders the template straight into the response body as {@code text/html}.
+     *
+     * @see #render(String, String, Supplier, Map, HttpServletRequest, HttpServletResponse, Writer)
+     */
+    public void render(String template, String rowsVariable, Supplier<? extends Stream<?>> rows,
+                       Map<String, Object> variables, HttpServletRequest request, HttpServletResponse response) {
+        response.setContentType("text/html;charset=UTF-8");
+        try {
+            render(template, rowsVariable, rows, variables, request, response, response.getWriter());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,7 @@
+-- skill_live_category_idx (category, id) matched no query: the entity queries filter on
+-- deleted_at IS NULL and the catalog (SkillRepository.streamAllSkillDtos) is read in
+-- (category, skill_name) order. This index returns the live rows in that order without a sort
+-- and without visiting the tombstones, which the unique index of the upsert still covers.
+DROP INDEX IF EXISTS skill_live_category_idx;
+
+CREATE INDEX skill_live_category_skill_name_idx ON skill (category, skill_name) WHERE deleted_at IS NULL;
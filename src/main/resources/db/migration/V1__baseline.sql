@@ -0,0 +1,53 @@
+-- Baseline schema, identical to what spring.jpa.hibernate.ddl-auto=update used to create.
+-- Existing databases are baselined at this version (spring.flyway.baseline-on-migrate).
+
+CREATE TABLE IF NOT EXISTS users
+(
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    first_name VARCHAR(255) NOT NULL,
+    last_name  VARCHAR(255) NOT NULL,
+    email      VARCHAR(255) NOT NULL,
+    password   VARCHAR(255),
+    role       VARCHAR(255) CHECK (role IN ('USER', 'ADMIN')),
+    roles      SMALLINT ARRAY
+);
+
+CREATE TABLE IF NOT EXISTS skill
+(
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    category   VARCHAR(255),
+    skill_name VARCHAR(255),
+    framework  VARCHAR(255),
+    icon       VARCHAR(255)
+);
+
+CREATE TABLE IF NOT EXISTS form_data
+(
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    first_name   VARCHAR(50) NOT NULL,
+    last_name    VARCHAR(255),
+    phone_number VARCHAR(255),
+    email        TEXT        NOT NULL,
+    message      TEXT        NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS education
+(
+    id              INTEGER GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    university_name VARCHAR(255),
+    degree          VARCHAR(255),
+    program         VARCHAR(255),
+    courses_taken   VARCHAR(255),
+    start_date      DATE,
+    end_date        DATE
+);
+
+CREATE TABLE IF NOT EXISTS work_experience
+(
+    id           INTEGER GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    company_name VARCHAR(255) NOT NULL,
+    job_title    VARCHAR(255) NOT NULL,
+    start_date   DATE         NOT NULL,
+    end_date     DATE,
+    description  VARCHAR(255)
+);
@@ -0,0 +1,17 @@
+-- Indexes backing the derived queries of the repositories.
+
+-- UserRepository.findFirstByEmail / findByEmail / findByEmailAndPassword (login, signup, JWT filter)
+CREATE INDEX IF NOT EXISTS users_email_idx ON users (email);
+
+-- UserRepository.findByRole / findAllByRole / queryFirst10ByRole
+CREATE INDEX IF NOT EXISTS users_role_idx ON users (role);
+
+-- ContactUsRepository.findByPhoneNumberAndEmail, email first because phone_number is optional
+CREATE INDEX IF NOT EXISTS form_data_email_phone_number_idx ON form_data (email, phone_number);
+
+-- skills are listed and grouped per category by the front-end
+CREATE INDEX IF NOT EXISTS skill_category_idx ON skill (category);
+
+ANALYZE users;
+ANALYZE form_data;
+ANALYZE skill;
@@ -0,0 +1,43 @@
+-- (category, skill_name) identifies a skill, it is the conflict target of the bulk upsert.
+
+-- ddl-auto never enforced it: the oldest row of each duplicate group is kept, the others are moved to
+-- skill_duplicate_archive (with the id of the row they duplicate) so that they can be reviewed and merged by hand
+CREATE TABLE skill_duplicate_archive
+(
+    id          BIGINT PRIMARY KEY,
+    kept_id     BIGINT                   NOT NULL,
+    category    VARCHAR(255),
+    skill_name  VARCHAR(255),
+    framework   VARCHAR(255),
+    icon        VARCHAR(255),
+    archived_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT now()
+);
+
+INSERT INTO skill_duplicate_archive (id, kept_id, category, skill_name, framework, icon)
+SELECT duplicate.id, min(original.id), duplicate.category, duplicate.skill_name, duplicate.framework, duplicate.icon
+FROM skill duplicate
+         JOIN skill original
+              ON original.category = duplicate.category
+                  AND original.skill_name = duplicate.skill_name
+                  AND original.id < duplicate.id
+GROUP BY duplicate.id, duplicate.category, duplicate.skill_name, duplicate.framework, duplicate.icon;
+
+DO
+$$
+    DECLARE
+        archived BIGINT;
+    BEGIN
+        SELECT count(*) INTO archived FROM skill_duplicate_archive;
+        IF archived > 0 THEN
+            RAISE WARNING 'V4: % duplicate (category, skill_name) skill rows moved to skill_duplicate_archive', archived;
+        END IF;
+    END
+$$;
+
+DELETE FROM skill
+WHERE id IN (SELECT id FROM skill_duplicate_archive);
+
+CREATE UNIQUE INDEX skill_category_skill_name_key ON skill (category, skill_name);
+
+-- category lookups use the leading column of the unique index
+DROP INDEX IF EXISTS skill_category_idx;
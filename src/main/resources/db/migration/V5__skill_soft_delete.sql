@@ -0,0 +1,5 @@
+-- Tombstone column for portfolio.skills.soft-delete=true, NULL means the skill is live.
+ALTER TABLE skill ADD COLUMN deleted_at TIMESTAMP WITH TIME ZONE;
+
+-- Every entity query filters on deleted_at IS NULL, only live rows are indexed.
+CREATE INDEX skill_live_category_idx ON skill (category, id) WHERE deleted_at IS NULL;
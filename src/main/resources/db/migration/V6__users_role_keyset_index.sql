@@ -0,0 +1,5 @@
+-- Keyset pagination of users per role, ordered by (first_name, id): UserRepository.findByRoleAfter.
+CREATE INDEX users_role_first_name_id_idx ON users (role, first_name, id);
+
+-- role alone is the leading column of the new index
+DROP INDEX IF EXISTS users_role_idx;
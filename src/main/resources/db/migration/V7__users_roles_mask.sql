@@ -0,0 +1,9 @@
+-- User.roles becomes a bitmask, bit n set <=> the user has the Role of ordinal n (USER = 1, ADMIN = 2).
+ALTER TABLE users ADD COLUMN roles_mask INTEGER NOT NULL DEFAULT 0;
+
+-- keep what the unmapped roles array held, and grant the single role column
+UPDATE users
+SET roles_mask = COALESCE((SELECT bit_or(1 << r) FROM unnest(roles) AS r), 0)
+                 | CASE role WHEN 'USER' THEN 1 WHEN 'ADMIN' THEN 2 ELSE 0 END;
+
+ALTER TABLE users DROP COLUMN roles;
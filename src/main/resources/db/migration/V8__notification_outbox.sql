@@ -0,0 +1,16 @@
+-- Transactional outbox: a row is written in the same transaction as the contact-us message it
+-- announces, and drained by NotificationOutboxDispatcher.
+CREATE TABLE notification_outbox (
+    id              BIGSERIAL PRIMARY KEY,
+    kind            VARCHAR(50) NOT NULL,
+    payload         TEXT NOT NULL,
+    created_at      TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT now(),
+    attempts        INTEGER NOT NULL DEFAULT 0,
+    -- NULL once the row is sent or has used up its attempts
+    next_attempt_at TIMESTAMP WITH TIME ZONE DEFAULT now(),
+    sent_at         TIMESTAMP WITH TIME ZONE,
+    last_error      TEXT
+);
+
+-- The dispatcher only looks at pending rows, sent ones do not bloat its index.
+CREATE INDEX notification_outbox_pending_idx ON notification_outbox (next_attempt_at, id) WHERE next_attempt_at IS NOT NULL;
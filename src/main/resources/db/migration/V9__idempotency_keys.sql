@@ -0,0 +1,13 @@
+-- Responses recorded per Idempotency-Key when portfolio.idempotency.store=jdbc, shared by all
+-- instances. Rows older than portfolio.idempotency.ttl are reused and purged by JdbcIdempotencyStore.
+CREATE TABLE idempotency_keys (
+    idempotency_key TEXT PRIMARY KEY,
+    fingerprint     VARCHAR(64) NOT NULL,
+    -- NULL while the first request is being processed
+    status          INTEGER,
+    content_type    VARCHAR(255),
+    body            BYTEA,
+    created_at      TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT now()
+);
+
+CREATE INDEX idempotency_keys_created_at_idx ON idempotency_keys (created_at);
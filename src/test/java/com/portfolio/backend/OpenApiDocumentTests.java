@@ -0,0 +1,63 @@
+package com.portfolio.backend;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.InputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * The OpenAPI document is not generated at runtime in production, {@code static/openapi.json} is served
+ * instead. This test generates the document from the controllers, with the springdoc settings of the
+ * {@code openapi} maven profile, and fails when the served file no longer matches it.
+ */
+@SpringBootTest(properties = {
+        "portfolio.jwt.generate-key=true",
+        // keep in sync with the arguments of the openapi profile in pom.xml
+        "springdoc.api-docs.enabled=true",
+        "springdoc.api-docs.path=/api-docs",
+        "springdoc.paths-to-match=/api/auth/**,/api/v0/**",
+        "springdoc.paths-to-exclude=/api/v0/technologies,/api/v0/icons/**"
+})
+@AutoConfigureMockMvc(addFilters = false)
+class OpenApiDocumentTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void servedDocumentMatchesTheControllers() throws Exception {
+        byte[] generated = mockMvc.perform(get("/api-docs"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray();
+        JsonNode served;
+        try (InputStream in = new ClassPathResource("static/openapi.json").getInputStream()) {
+            served = objectMapper.readTree(in);
+        }
+
+        assertThat(withoutServers(served))
+                .as("static/openapi.json is out of date, regenerate it: docker compose up -d db && ./mvnw -Popenapi -DskipTests verify")
+                .isEqualTo(withoutServers(objectMapper.readTree(generated)));
+    }
+
+    /**
+     * The server url is the one of the generating application (localhost:8080 for the maven profile).
+     */
+    private static JsonNode withoutServers(JsonNode document) {
+        ObjectNode copy = document.deepCopy();
+        copy.remove("servers");
+        return copy;
+    }
+}
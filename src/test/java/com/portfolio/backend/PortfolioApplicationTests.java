@@ -3,7 +3,7 @@ package com.portfolio.backend;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+@SpringBootTest(properties = "portfolio.jwt.generate-key=true")
 class PortfolioApplicationTests {
 
 	@Test
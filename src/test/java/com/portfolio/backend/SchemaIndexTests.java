@@ -0,0 +1,159 @@
+package com.portfolio.backend;
+
+import com.portfolio.backend.dtos.SkillDto;
+import com.portfolio.backend.entity.Role;
+import com.portfolio.backend.repositories.ContactUsRepository;
+import com.portfolio.backend.repositories.SkillRepository;
+import com.portfolio.backend.repositories.UserRepository;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that the indexes created by the flyway migrations are picked by the planner
+ * for the queries generated from the repository methods.
+ * <p>
+ * The SQL is the one Hibernate sends, recorded by a {@link StatementInspector} while the repository
+ * method runs, and explained as a generic plan ({@code EXPLAIN (GENERIC_PLAN)}, PostgreSQL 16+) so
+ * that its bind parameters need no values. The tables are tiny in a test database, so sequential
+ * scans are disabled for the transaction: the planner then only falls back to a seq scan if no index applies.
+ * </p>
+ */
+@SpringBootTest(properties = "portfolio.jwt.generate-key=true")
+@Transactional
+class SchemaIndexTests {
+
+    private static final Pattern BIND_PARAMETER = Pattern.compile("\\?");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private RecordingStatementInspector statements;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ContactUsRepository contactUsRepository;
+    @Autowired
+    private SkillRepository skillRepository;
+
+    @BeforeEach
+    void disableSeqScan() {
+        jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+    }
+
+    @Test
+    void principalIsLoadedByEmail() {
+        assertThat(plansOf(() -> userRepository.findFirstByEmail("a@b.c")))
+                .allSatisfy(plan -> assertThat(plan).contains("users_email_idx"));
+        assertThat(plansOf(() -> userRepository.findByEmailAndPassword("a@b.c", "x")))
+                .allSatisfy(plan -> assertThat(plan).contains("users_email_idx"));
+    }
+
+    @Test
+    void usersOfARoleArePagedFromTheRoleIndex() {
+        PageRequest page = PageRequest.of(0, 50);
+
+        assertThat(plansOf(() -> userRepository.findByRoleFirst(Role.USER, page)))
+                .allSatisfy(plan -> assertThat(plan).contains("users_role_first_name_id_idx").doesNotContain("Sort"));
+        assertThat(plansOf(() -> userRepository.findByRoleAfter(Role.USER, "A", 1, page)))
+                .allSatisfy(plan -> assertThat(plan).contains("users_role_first_name_id_idx").doesNotContain("Sort"));
+        // the page and its count query
+        assertThat(plansOf(() -> userRepository.findPageByRole(Role.USER, PageRequest.of(1, 50))))
+                .hasSize(2)
+                .allSatisfy(plan -> assertThat(plan).contains("users_role_first_name_id_idx"));
+    }
+
+    @Test
+    void contactRequestIsFoundByPhoneNumberAndEmail() {
+        assertThat(plansOf(() -> contactUsRepository.findByPhoneNumberAndEmail("0123", "a@b.c")))
+                .allSatisfy(plan -> assertThat(plan).contains("form_data_email_phone_number_idx"));
+    }
+
+    @Test
+    void liveSkillsAreReadInCatalogOrderFromThePartialIndex() {
+        // tombstones make the partial index the smaller one, as it is once skills get soft deleted
+        jdbcTemplate.update("""
+                INSERT INTO skill (category, skill_name, deleted_at)
+                SELECT 'SchemaIndexTests', 'deleted-' || n, now() FROM generate_series(1, 500) n
+                """);
+        jdbcTemplate.execute("ANALYZE skill");
+
+        assertThat(plansOf(() -> {
+            try (Stream<SkillDto> skills = skillRepository.streamAllSkillDtos()) {
+                skills.forEach(skill -> { });
+            }
+        })).allSatisfy(plan -> assertThat(plan).contains("skill_live_category_skill_name_idx").doesNotContain("Sort"));
+    }
+
+    /**
+     * Runs the repository call and returns the generic plan of every statement it sent.
+     */
+    private List<String> plansOf(Runnable repositoryCall) {
+        statements.clear();
+        repositoryCall.run();
+        List<String> sent = List.copyOf(statements.sql);
+        assertThat(sent).as("statements sent by the repository").isNotEmpty();
+        return sent.stream()
+                .map(sql -> String.join("\n", jdbcTemplate.queryForList("EXPLAIN (GENERIC_PLAN) " + numbered(sql), String.class)))
+                .toList();
+    }
+
+    /**
+     * JDBC {@code ?} placeholders to the {@code $n} parameters of a generic plan.
+     */
+    private static String numbered(String sql) {
+        Matcher matcher = BIND_PARAMETER.matcher(sql);
+        StringBuilder numbered = new StringBuilder();
+        int n = 0;
+        while (matcher.find()) {
+            matcher.appendReplacement(numbered, "\\$" + ++n);
+        }
+        return matcher.appendTail(numbered).toString();
+    }
+
+    static class RecordingStatementInspector implements StatementInspector {
+
+        private final List<String> sql = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            this.sql.add(sql);
+            return sql;
+        }
+
+        void clear() {
+            sql.clear();
+        }
+    }
+
+    @TestConfiguration
+    static class StatementRecording {
+
+        @Bean
+        RecordingStatementInspector recordingStatementInspector() {
+            return new RecordingStatementInspector();
+        }
+
+        @Bean
+        HibernatePropertiesCustomizer statementInspector(RecordingStatementInspector inspector) {
+            return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, inspector);
+        }
+    }
+}
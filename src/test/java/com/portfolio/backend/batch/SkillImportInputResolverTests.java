@@ -0,0 +1,29 @@
+package com.portfolio.backend.batch;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class SkillImportInputResolverTests {
+
+    private final Path baseDir = Path.of("/srv/imports");
+    private final SkillImportInputResolver resolver = new SkillImportInputResolver(baseDir);
+
+    @Test
+    void resolvesInsideTheImportDirectory() {
+        assertThat(resolver.resolve("skills-*.csv")).isEqualTo("file:" + baseDir.resolve("skills-*.csv"));
+        assertThat(resolver.resolve("2024/./skills.json")).isEqualTo("file:" + baseDir.resolve("2024/skills.json"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", " ", "/etc/passwd", "file:/etc/passwd", "classpath*:application*.properties",
+            "https://example.com/skills.csv", "../secrets.csv", "2024/../../secrets.csv", "C:/imports/skills.csv"})
+    void rejectsInputsOutsideTheImportDirectory(String input) {
+        assertThatIllegalArgumentException().isThrownBy(() -> resolver.resolve(input));
+    }
+}
@@ -0,0 +1,102 @@
+package com.portfolio.backend.batch;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.repository.JobInstanceAlreadyCompleteException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Runs the import job against the database of the active profile. Batch steps manage their own
+ * transactions, so the test is not transactional: the imported skills are deleted afterwards, and
+ * each run imports its own directory (a job instance is identified by its input).
+ */
+@SpringBootTest(properties = "portfolio.jwt.generate-key=true")
+class SkillImportJobTests {
+
+    private static final String PREFIX = "SkillImportJobTests ";
+
+    @TempDir
+    static Path importDir;
+
+    @DynamicPropertySource
+    static void importDirectory(DynamicPropertyRegistry registry) {
+        registry.add("portfolio.batch.skill-import.base-dir", importDir::toString);
+    }
+
+    @Autowired
+    private SkillImportLauncher skillImportLauncher;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void deleteImportedSkills() {
+        jdbcTemplate.update("DELETE FROM skill WHERE skill_name LIKE ?", PREFIX + "%");
+    }
+
+    @Test
+    void importsTheValidRowsAndSkipsTheOthers() throws Exception {
+        String run = UUID.randomUUID().toString();
+        Files.createDirectories(importDir.resolve(run));
+        Files.writeString(importDir.resolve(run).resolve("skills-a.csv"), """
+                category,skill_name,framework,icon
+                Backend,SkillImportJobTests Java,Spring,
+                Backend,,Spring,
+                Backend,too,many,columns,here
+                Frontend,SkillImportJobTests Angular,,
+                """);
+        Files.writeString(importDir.resolve(run).resolve("skills-b.json"), """
+                [
+                  {"category": "Backend", "skill_name": "SkillImportJobTests Kotlin"},
+                  {"category": "Backend", "skill_name": {"not": "a name"}},
+                  42,
+                  {"category": "Backend", "skill_name": "SkillImportJobTests Go", "framework": "Gin"}
+                ]
+                """);
+
+        JobExecution started = skillImportLauncher.start(run + "/skills-*");
+        JobExecution finished = awaitEnd(started.getId());
+
+        assertThat(finished.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        StepExecution manager = finished.getStepExecutions().stream()
+                .filter(step -> SkillImportJobConfiguration.MANAGER_STEP_NAME.equals(step.getStepName()))
+                .findFirst().orElseThrow();
+        // csv: a line with too many columns, a row without name; json: a name that is not a string, a number
+        assertThat(manager.getWriteCount()).isEqualTo(4);
+        assertThat(manager.getReadSkipCount()).isEqualTo(3);
+        assertThat(manager.getProcessSkipCount()).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForList("SELECT skill_name FROM skill WHERE skill_name LIKE ? ORDER BY skill_name",
+                String.class, PREFIX + "%"))
+                .containsExactly(PREFIX + "Angular", PREFIX + "Go", PREFIX + "Java", PREFIX + "Kotlin");
+
+        assertThatThrownBy(() -> skillImportLauncher.start(run + "/skills-*"))
+                .isInstanceOf(JobInstanceAlreadyCompleteException.class);
+    }
+
+    private JobExecution awaitEnd(long jobExecutionId) throws InterruptedException {
+        Instant deadline = Instant.now().plus(Duration.ofSeconds(30));
+        JobExecution execution = skillImportLauncher.find(jobExecutionId).orElseThrow();
+        while (execution.isRunning() && Instant.now().isBefore(deadline)) {
+            Thread.sleep(50);
+            execution = skillImportLauncher.find(jobExecutionId).orElseThrow();
+        }
+        return execution;
+    }
+}
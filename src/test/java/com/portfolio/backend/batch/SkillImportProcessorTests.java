@@ -0,0 +1,63 @@
+package com.portfolio.backend.batch;
+
+import com.portfolio.backend.dtos.SkillDto;
+import com.portfolio.backend.exceptions.InvalidSkillException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SkillImportProcessorTests {
+
+    private final SkillImportProcessor processor = new SkillImportProcessor();
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "Spring Boot | springboot",
+            "springboot  | springboot",
+            "C++         | cplusplus",
+            ".NET        | dotnet",
+            "Node.js     | nodedotjs",
+            "AT&T        | atandt",
+            "Vue.js 3!   | vuedotjs3"
+    })
+    void slugFollowsTheSimpleIconsRules(String title, String slug) {
+        assertThat(SkillImportProcessor.toSlug(title)).isEqualTo(slug);
+    }
+
+    @Test
+    void rowIsTrimmedAndTheIconNormalised() {
+        SkillDto skill = processor.process(row("  Backend ", " Spring Boot ", "  ", " Spring Boot"));
+
+        assertThat(skill.getCategory()).isEqualTo("Backend");
+        assertThat(skill.getSkill_name()).isEqualTo("Spring Boot");
+        assertThat(skill.getFramework()).isNull();
+        assertThat(skill.getIcon()).isEqualTo("springboot");
+    }
+
+    @Test
+    void missingIconIsLookedUpFromTheSkillName() {
+        assertThat(processor.process(row("DevOps", "Docker", null, null)).getIcon()).isEqualTo("docker");
+        // no icon for this name: the row is kept without one
+        assertThat(processor.process(row("DevOps", "In-house deployer", null, "")).getIcon()).isNull();
+    }
+
+    @Test
+    void invalidRowsAreRejected() {
+        assertThatThrownBy(() -> processor.process(row(" ", "Docker", null, null))).isInstanceOf(InvalidSkillException.class);
+        assertThatThrownBy(() -> processor.process(row("DevOps", null, null, null))).isInstanceOf(InvalidSkillException.class);
+        assertThatThrownBy(() -> processor.process(row("DevOps", "x".repeat(256), null, null)))
+                .isInstanceOf(InvalidSkillException.class)
+                .hasMessageContaining("255");
+        // an explicit icon must exist, it is not silently dropped
+        assertThatThrownBy(() -> processor.process(row("DevOps", "Docker", null, "no-such-icon-slug")))
+                .isInstanceOf(InvalidSkillException.class)
+                .hasMessageContaining("no-such-icon-slug");
+    }
+
+    private static SkillDto row(String category, String skillName, String framework, String icon) {
+        return SkillDto.builder().category(category).skill_name(skillName).framework(framework).icon(icon).build();
+    }
+}
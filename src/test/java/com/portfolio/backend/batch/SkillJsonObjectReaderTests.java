@@ -0,0 +1,69 @@
+package com.portfolio.backend.batch;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.NonTransientResourceException;
+import org.springframework.batch.item.ParseException;
+import org.springframework.core.io.ByteArrayResource;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SkillJsonObjectReaderTests {
+
+    private final SkillJsonObjectReader reader = new SkillJsonObjectReader(new ObjectMapper());
+
+    @AfterEach
+    void close() throws Exception {
+        reader.close();
+    }
+
+    @Test
+    void rowsThatDoNotMapAreSkippableAndTheNextRowIsRead() throws Exception {
+        open("""
+                [{"skill_name": [], "category": "Backend"}, 42, {"category": "Backend", "skill_name": "B", "level": 3},
+                 {"category": "Backend", "skill_name": "C"}]
+                """);
+
+        assertThatThrownBy(reader::read).isInstanceOf(ParseException.class);
+        assertThatThrownBy(reader::read).isInstanceOf(ParseException.class).hasMessageContaining("not a JSON object");
+        assertThatThrownBy(reader::read).isInstanceOf(ParseException.class).hasMessageContaining("level");
+        assertThat(reader.read().getSkill_name()).isEqualTo("C");
+        assertThat(reader.read()).isNull();
+    }
+
+    @Test
+    void restartSkipsTheCommittedRowsInvalidOnesIncluded() throws Exception {
+        open("""
+                [{"category": "Backend", "skill_name": "A"}, {"skill_name": {"nested": []}}, {"category": "Backend", "skill_name": "C"}]
+                """);
+
+        reader.jumpToItem(2);
+
+        assertThat(reader.read().getSkill_name()).isEqualTo("C");
+        assertThat(reader.read()).isNull();
+    }
+
+    @Test
+    void malformedJsonIsNotSkippable() throws Exception {
+        open("""
+                [{"category": "Backend", "skill_name": "A"}, {"category": "Backend", "skill_name": }]
+                """);
+
+        assertThat(reader.read().getSkill_name()).isEqualTo("A");
+        assertThatThrownBy(reader::read).isInstanceOf(NonTransientResourceException.class);
+    }
+
+    @Test
+    void fileMustHoldAnArray() {
+        assertThatThrownBy(() -> open("{\"category\": \"Backend\", \"skill_name\": \"A\"}"))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private void open(String json) throws Exception {
+        reader.open(new ByteArrayResource(json.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,60 @@
+package com.portfolio.backend.configs;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+class ConcurrencyLimitFilterTests {
+
+    private final ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(1, Duration.ZERO);
+
+    private final FilterChain ok = (request, response) -> ((HttpServletResponse) response).setStatus(200);
+
+    @Test
+    void requestOverTheLimitIsRejected() throws Exception {
+        MockHttpServletResponse[] concurrent = new MockHttpServletResponse[1];
+        MockHttpServletResponse first = send("/api/v0/technologies", (request, response) -> {
+            concurrent[0] = send("/api/v0/technologies", ok);
+            ok.doFilter(request, response);
+        });
+
+        assertThat(first.getStatus()).isEqualTo(200);
+        assertThat(concurrent[0].getStatus()).isEqualTo(503);
+        assertThat(concurrent[0].getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+    }
+
+    @Test
+    void permitIsGivenBackAfterAnException() throws Exception {
+        assertThatIllegalStateException().isThrownBy(() -> send("/api/v0/technologies", (request, response) -> {
+            throw new IllegalStateException("database down");
+        }));
+
+        assertThat(send("/api/v0/technologies", ok).getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void actuatorIsNotLimited() throws Exception {
+        MockHttpServletResponse[] health = new MockHttpServletResponse[1];
+        send("/api/v0/technologies", (request, response) -> health[0] = send("/actuator/health", ok));
+
+        assertThat(health[0].getStatus()).isEqualTo(200);
+    }
+
+    private MockHttpServletResponse send(String path, FilterChain chain) throws IOException, ServletException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        request.setServletPath(path);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+}
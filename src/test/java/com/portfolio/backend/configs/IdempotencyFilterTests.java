@@ -0,0 +1,155 @@
+package com.portfolio.backend.configs;
+
+import com.portfolio.backend.services.idempotency.InMemoryIdempotencyStore;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+class IdempotencyFilterTests {
+
+    private static final String PATH = "/api/auth/contact-us";
+
+    private final AtomicInteger processed = new AtomicInteger();
+    private IdempotencyFilter filter = filter(Duration.ofMinutes(1));
+
+    private final FilterChain created = (request, response) -> {
+        processed.incrementAndGet();
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        ((HttpServletResponse) response).setStatus(201);
+        response.getWriter().write("{\"id\":" + processed.get() + "}");
+    };
+
+    @Test
+    void retryGetsTheRecordedResponse() throws Exception {
+        MockHttpServletResponse first = send("key-1", "{\"message\":\"hello\"}", created);
+        MockHttpServletResponse retry = send("key-1", "{\"message\":\"hello\"}", created);
+
+        assertThat(processed).hasValue(1);
+        assertThat(first.getStatus()).isEqualTo(201);
+        assertThat(first.getHeader(IdempotencyFilter.REPLAYED)).isNull();
+        assertThat(retry.getStatus()).isEqualTo(201);
+        assertThat(retry.getHeader(IdempotencyFilter.REPLAYED)).isEqualTo("true");
+        assertThat(retry.getContentType()).isEqualTo(MediaType.APPLICATION_JSON_VALUE);
+        assertThat(retry.getContentAsString()).isEqualTo(first.getContentAsString()).isEqualTo("{\"id\":1}");
+    }
+
+    @Test
+    void retryWithAnotherBodyIsRejected() throws Exception {
+        send("key-1", "{\"message\":\"hello\"}", created);
+        MockHttpServletResponse retry = send("key-1", "{\"message\":\"bye\"}", created);
+
+        assertThat(processed).hasValue(1);
+        assertThat(retry.getStatus()).isEqualTo(422);
+    }
+
+    @Test
+    void retryDuringTheFirstRequestIsRejected() throws Exception {
+        MockHttpServletResponse[] concurrent = new MockHttpServletResponse[1];
+        send("key-1", "{}", (request, response) -> {
+            concurrent[0] = send("key-1", "{}", created);
+            created.doFilter(request, response);
+        });
+
+        assertThat(concurrent[0].getStatus()).isEqualTo(409);
+        assertThat(processed).hasValue(1);
+    }
+
+    @Test
+    void keyIsReleasedAfterAnErrorResponse() throws Exception {
+        MockHttpServletResponse failed = send("key-1", "{}",
+                (request, response) -> ((HttpServletResponse) response).sendError(503));
+        MockHttpServletResponse retry = send("key-1", "{}", created);
+
+        assertThat(failed.getStatus()).isEqualTo(503);
+        assertThat(retry.getStatus()).isEqualTo(201);
+        assertThat(retry.getHeader(IdempotencyFilter.REPLAYED)).isNull();
+        assertThat(processed).hasValue(1);
+    }
+
+    @Test
+    void keyIsReleasedAfterAnException() throws Exception {
+        assertThatIllegalStateException().isThrownBy(() -> send("key-1", "{}", (request, response) -> {
+            throw new IllegalStateException("database down");
+        }));
+        MockHttpServletResponse retry = send("key-1", "{}", created);
+
+        assertThat(retry.getStatus()).isEqualTo(201);
+        assertThat(processed).hasValue(1);
+    }
+
+    @Test
+    void reservationIsTakenOverAfterTheLease() throws Exception {
+        filter = filter(Duration.ZERO);
+        MockHttpServletResponse[] concurrent = new MockHttpServletResponse[1];
+        send("key-1", "{}", (request, response) -> concurrent[0] = send("key-1", "{}", created));
+
+        assertThat(concurrent[0].getStatus()).isEqualTo(201);
+        assertThat(processed).hasValue(1);
+    }
+
+    @Test
+    void requestThatLostItsReservationDoesNotOverwriteTheResponse() throws Exception {
+        filter = filter(Duration.ZERO);
+        send("key-1", "{}", (request, response) -> {
+            send("key-1", "{}", created);
+            created.doFilter(request, response);
+        });
+        MockHttpServletResponse retry = send("key-1", "{}", created);
+
+        assertThat(processed).hasValue(2);
+        assertThat(retry.getHeader(IdempotencyFilter.REPLAYED)).isEqualTo("true");
+        assertThat(retry.getContentAsString()).isEqualTo("{\"id\":1}");
+    }
+
+    @Test
+    void requestThatLostItsReservationDoesNotReleaseIt() throws Exception {
+        filter = filter(Duration.ZERO);
+        send("key-1", "{}", (request, response) -> {
+            send("key-1", "{}", created);
+            ((HttpServletResponse) response).sendError(503);
+        });
+        MockHttpServletResponse retry = send("key-1", "{}", created);
+
+        assertThat(processed).hasValue(1);
+        assertThat(retry.getHeader(IdempotencyFilter.REPLAYED)).isEqualTo("true");
+    }
+
+    @Test
+    void requestsWithoutKeyAreNotRecorded() throws Exception {
+        send(null, "{}", created);
+        send(null, "{}", created);
+
+        assertThat(processed).hasValue(2);
+    }
+
+    private IdempotencyFilter filter(Duration lease) {
+        return new IdempotencyFilter(new InMemoryIdempotencyStore(Duration.ofHours(24), lease, 100), Set.of(PATH), 1024);
+    }
+
+    private MockHttpServletResponse send(String idempotencyKey, String body, FilterChain chain)
+            throws IOException, ServletException {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", PATH);
+        request.setServletPath(PATH);
+        request.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        if (idempotencyKey != null) {
+            request.addHeader(IdempotencyFilter.IDEMPOTENCY_KEY, idempotencyKey);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+}
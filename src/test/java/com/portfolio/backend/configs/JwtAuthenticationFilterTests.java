@@ -0,0 +1,116 @@
+package com.portfolio.backend.configs;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portfolio.backend.services.auth.TokenRevocationStore;
+import com.portfolio.backend.services.userService.UserService;
+import com.portfolio.backend.utils.JwtKeyRing;
+import com.portfolio.backend.utils.JwtUtil;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * The admin pages are reached from a browser with the token of the admin login cookie, the api only
+ * with the {@code Authorization} header.
+ */
+class JwtAuthenticationFilterTests {
+
+    private final UserDetails admin = User.withUsername("admin@example.com").password("secret").roles("ADMIN").build();
+    private JwtUtil jwtUtil;
+    private JwtAuthenticationFilter filter;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        jwtUtil = new JwtUtil(new JwtKeyRing(null, "", true, new ObjectMapper()),
+                new TokenRevocationStore(Duration.ofDays(7), Duration.ofHours(1), 1000, 1e-6),
+                event -> { }, Duration.ofMinutes(15), Duration.ofDays(7));
+        UserService userService = mock(UserService.class);
+        when(userService.userDetailsService()).thenReturn(username -> admin);
+        filter = new JwtAuthenticationFilter(jwtUtil, userService);
+    }
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void adminPagesAcceptTheCookie() throws Exception {
+        MockHttpServletRequest request = request("/admin/skills/list");
+        request.setCookies(new Cookie(JwtAuthenticationFilter.ADMIN_TOKEN_COOKIE, jwtUtil.generateToken(admin)));
+
+        assertThat(authenticate(request)).isNotNull().extracting(Authentication::getName).isEqualTo(admin.getUsername());
+    }
+
+    @Test
+    void contactUsStreamAcceptsTheCookie() throws Exception {
+        // an EventSource sends the cookies of the page, it cannot set headers
+        MockHttpServletRequest request = request("/admin/contact-us/stream");
+        request.addHeader("Accept", "text/event-stream");
+        request.setCookies(new Cookie(JwtAuthenticationFilter.ADMIN_TOKEN_COOKIE, jwtUtil.generateToken(admin)));
+
+        assertThat(authenticate(request)).isNotNull().extracting(Authentication::getName).isEqualTo(admin.getUsername());
+    }
+
+    @Test
+    void apiIgnoresTheCookie() throws Exception {
+        MockHttpServletRequest request = request("/api/admin/skills/import");
+        request.setCookies(new Cookie(JwtAuthenticationFilter.ADMIN_TOKEN_COOKIE, jwtUtil.generateToken(admin)));
+
+        assertThat(authenticate(request)).isNull();
+    }
+
+    @Test
+    void apiAcceptsTheBearerHeader() throws Exception {
+        MockHttpServletRequest request = request("/api/admin/skills/import");
+        request.addHeader("Authorization", "Bearer " + jwtUtil.generateToken(admin));
+
+        assertThat(authenticate(request)).isNotNull().extracting(Authentication::getName).isEqualTo(admin.getUsername());
+    }
+
+    @Test
+    void invalidCookieLeavesTheRequestUnauthenticated() throws Exception {
+        MockHttpServletRequest request = request("/admin/skills/list");
+        request.setCookies(new Cookie(JwtAuthenticationFilter.ADMIN_TOKEN_COOKIE, "not-a-jwt"));
+
+        assertThat(authenticate(request)).isNull();
+    }
+
+    @Test
+    void refreshAndRevokedTokensAreRefused() throws Exception {
+        MockHttpServletRequest refresh = request("/api/admin/skills/import");
+        refresh.addHeader("Authorization", "Bearer " + jwtUtil.generateRefreshToken(admin));
+        String revokedToken = jwtUtil.generateToken(admin);
+        jwtUtil.revoke(jwtUtil.parseToken(revokedToken));
+        MockHttpServletRequest revoked = request("/api/admin/skills/import");
+        revoked.addHeader("Authorization", "Bearer " + revokedToken);
+
+        assertThat(authenticate(refresh)).isNull();
+        assertThat(authenticate(revoked)).isNull();
+    }
+
+    private static MockHttpServletRequest request(String path) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        request.setServletPath(path);
+        return request;
+    }
+
+    private Authentication authenticate(MockHttpServletRequest request) throws Exception {
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+}
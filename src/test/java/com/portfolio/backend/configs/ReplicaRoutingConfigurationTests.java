@@ -0,0 +1,103 @@
+package com.portfolio.backend.configs;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Routes between two embedded H2 databases, each of them knows whether it is the primary or the replica.
+ * The lag window is measured on a clock the tests move.
+ */
+class ReplicaRoutingConfigurationTests {
+
+    private static final Duration MAX_LAG = Duration.ofMillis(200);
+
+    private final AtomicLong nanoTime = new AtomicLong();
+    private ReplicaLagGuard replicaLagGuard;
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = database("primary");
+        DataSource replica = database("replica");
+        replicaLagGuard = new ReplicaLagGuard(MAX_LAG, nanoTime::get);
+
+        DataSource dataSource = ReplicaRoutingConfiguration.routingDataSource(primary, replica, replicaLagGuard);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        transactionManager.addListener(replicaLagGuard);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @Test
+    void readOnlyTransactionsUseTheReplica() {
+        assertThat(readOnly.execute(status -> whoAmI())).isEqualTo("replica");
+    }
+
+    @Test
+    void readWriteTransactionsUseThePrimary() {
+        assertThat(readWrite.execute(status -> whoAmI())).isEqualTo("primary");
+    }
+
+    @Test
+    void readsStayOnThePrimaryWhileTheReplicaMayLag() {
+        readWrite.executeWithoutResult(status -> jdbcTemplate.update("UPDATE node SET writes = writes + 1"));
+
+        assertThat(readOnly.execute(status -> whoAmI())).isEqualTo("primary");
+
+        nanoTime.addAndGet(MAX_LAG.toNanos() - 1);
+        assertThat(readOnly.execute(status -> whoAmI())).isEqualTo("primary");
+
+        nanoTime.incrementAndGet();
+        assertThat(readOnly.execute(status -> whoAmI())).isEqualTo("replica");
+    }
+
+    @Test
+    void readOnlyAndRolledBackTransactionsOpenNoWindow() {
+        readOnly.executeWithoutResult(status -> whoAmI());
+        readWrite.executeWithoutResult(status -> {
+            jdbcTemplate.update("UPDATE node SET writes = writes + 1");
+            status.setRollbackOnly();
+        });
+
+        assertThat(readOnly.execute(status -> whoAmI())).isEqualTo("replica");
+    }
+
+    @Test
+    void writeOfAnotherInstanceKeepsTheReadsOnThePrimary() {
+        nanoTime.addAndGet(Duration.ofMinutes(5).toNanos());
+        replicaLagGuard.markWrite();
+
+        assertThat(readOnly.execute(status -> whoAmI())).isEqualTo("primary");
+
+        nanoTime.addAndGet(MAX_LAG.toNanos());
+        assertThat(readOnly.execute(status -> whoAmI())).isEqualTo("replica");
+    }
+
+    private String whoAmI() {
+        return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private static DataSource database(String name) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + name + System.nanoTime() + ";DB_CLOSE_DELAY=-1");
+        new JdbcTemplate(dataSource).execute("CREATE TABLE node (name VARCHAR(16), writes INT)");
+        new JdbcTemplate(dataSource).update("INSERT INTO node VALUES (?, 0)", name);
+        return dataSource;
+    }
+}
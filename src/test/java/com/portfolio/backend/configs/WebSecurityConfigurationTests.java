@@ -0,0 +1,53 @@
+package com.portfolio.backend.configs;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.cookie;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrl;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * The admin pages are authenticated by a cookie and need a CSRF token, the api does not.
+ */
+@SpringBootTest(properties = "portfolio.jwt.generate-key=true")
+@AutoConfigureMockMvc
+class WebSecurityConfigurationTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void adminPageSetsTheCsrfCookie() throws Exception {
+        mockMvc.perform(get("/admin/login"))
+                .andExpect(status().isOk())
+                .andExpect(cookie().exists(WebSecurityConfiguration.ADMIN_CSRF_COOKIE))
+                .andExpect(cookie().path(WebSecurityConfiguration.ADMIN_CSRF_COOKIE, "/admin"))
+                .andExpect(cookie().httpOnly(WebSecurityConfiguration.ADMIN_CSRF_COOKIE, true));
+    }
+
+    @Test
+    void adminFormWithoutCsrfTokenIsRejected() throws Exception {
+        mockMvc.perform(post("/admin/login").param("email", "nobody@example.com").param("password", "x"))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void adminFormWithCsrfTokenIsProcessed() throws Exception {
+        mockMvc.perform(post("/admin/login").param("email", "nobody@example.com").param("password", "x").with(csrf()))
+                .andExpect(redirectedUrl("/admin/login?error"));
+    }
+
+    @Test
+    void apiNeedsNoCsrfTokenAndGetsNoCookie() throws Exception {
+        mockMvc.perform(get("/api/v0/technologies"))
+                .andExpect(status().isOk())
+                .andExpect(cookie().doesNotExist(WebSecurityConfiguration.ADMIN_CSRF_COOKIE));
+    }
+}
@@ -0,0 +1,107 @@
+package com.portfolio.backend.repositories;
+
+import com.portfolio.backend.repositories.NotificationOutboxRepository.OutboxEntry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the outbox statements against the database of the active profile; every test is rolled back.
+ */
+@SpringBootTest(properties = {"portfolio.jwt.generate-key=true", "portfolio.notifications.dispatcher.enabled=false"})
+@Transactional
+class NotificationOutboxRepositoryTests {
+
+    private static final Duration LEASE = Duration.ofMinutes(5);
+
+    @Autowired
+    private NotificationOutboxRepository outboxRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void emptyOutbox() {
+        jdbcTemplate.update("DELETE FROM notification_outbox");
+    }
+
+    @Test
+    void claimedRowsAreLeased() {
+        outboxRepository.append("contact-us", "{}");
+        outboxRepository.append("contact-us", "{}");
+        outboxRepository.append("contact-us", "{}");
+
+        List<OutboxEntry> claimed = outboxRepository.claim(2, LEASE);
+
+        assertThat(claimed).hasSize(2).allSatisfy(entry -> assertThat(entry.attempts()).isZero());
+        assertThat(outboxRepository.claim(2, LEASE)).hasSize(1).doesNotContainAnyElementsOf(claimed);
+        assertThat(outboxRepository.claim(2, LEASE)).isEmpty();
+    }
+
+    @Test
+    void rowIsClaimedAgainOnceTheLeaseIsOver() {
+        outboxRepository.append("contact-us", "{}");
+
+        List<OutboxEntry> claimed = outboxRepository.claim(10, Duration.ZERO);
+
+        assertThat(outboxRepository.claim(10, LEASE)).containsExactlyElementsOf(claimed);
+    }
+
+    @Test
+    void failedRowIsRetriedAfterItsBackoff() {
+        outboxRepository.append("contact-us", "{}");
+        long id = outboxRepository.claim(10, LEASE).getFirst().id();
+
+        outboxRepository.markFailed(id, "smtp down", Duration.ZERO, false);
+        OutboxEntry retried = outboxRepository.claim(10, LEASE).getFirst();
+        outboxRepository.markFailed(id, "smtp down", Duration.ofMinutes(1), false);
+
+        assertThat(retried.attempts()).isEqualTo(1);
+        assertThat(outboxRepository.claim(10, LEASE)).isEmpty();
+        assertThat(jdbcTemplate.queryForObject("SELECT attempts FROM notification_outbox WHERE id = ?", Integer.class, id)).isEqualTo(2);
+    }
+
+    @Test
+    void givenUpAndSentRowsAreNotClaimed() {
+        outboxRepository.append("contact-us", "{}");
+        outboxRepository.append("contact-us", "{}");
+        List<OutboxEntry> claimed = outboxRepository.claim(10, Duration.ZERO);
+
+        outboxRepository.markSent(claimed.get(0).id());
+        outboxRepository.markFailed(claimed.get(1).id(), "smtp down", Duration.ZERO, true);
+
+        assertThat(outboxRepository.claim(10, LEASE)).isEmpty();
+    }
+
+    @Test
+    void onlyFinishedRowsOlderThanTheRetentionArePurged() {
+        outboxRepository.append("contact-us", "{}");
+        outboxRepository.append("contact-us", "{}");
+        outboxRepository.append("contact-us", "{}");
+        outboxRepository.append("contact-us", "{}");
+        List<OutboxEntry> claimed = outboxRepository.claim(10, Duration.ZERO);
+        long oldSent = claimed.get(0).id();
+        long oldGivenUp = claimed.get(1).id();
+        long recentSent = claimed.get(2).id();
+        long pending = claimed.get(3).id();
+        outboxRepository.markSent(oldSent);
+        outboxRepository.markFailed(oldGivenUp, "smtp down", Duration.ZERO, true);
+        outboxRepository.markSent(recentSent);
+        jdbcTemplate.update("UPDATE notification_outbox SET created_at = now() - INTERVAL '8 days', "
+                + "sent_at = sent_at - INTERVAL '8 days' WHERE id IN (?, ?, ?)", oldSent, oldGivenUp, pending);
+
+        int purged = outboxRepository.purgeFinished(Duration.ofDays(7));
+
+        assertThat(purged).isEqualTo(2);
+        assertThat(jdbcTemplate.queryForList("SELECT id FROM notification_outbox ORDER BY id", Long.class))
+                .containsExactlyInAnyOrder(recentSent, pending);
+    }
+}
@@ -0,0 +1,82 @@
+package com.portfolio.backend.repositories;
+
+import com.portfolio.backend.dtos.SkillDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the upserts against the database of the active profile, whose driver rewrites batched
+ * inserts ({@code reWriteBatchedInserts}); every test is rolled back.
+ */
+@SpringBootTest(properties = "portfolio.jwt.generate-key=true")
+@Transactional
+class SkillJdbcRepositoryTests {
+
+    private static final String CATEGORY = "SkillJdbcRepositoryTests";
+
+    @Autowired
+    private SkillJdbcRepository skillJdbcRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void duplicateKeysAreUpsertedOnceLastOneWins() {
+        int upserted = skillJdbcRepository.upsert(List.of(skill("Java", "Spring"), skill("Java", "Quarkus")));
+
+        assertThat(upserted).isEqualTo(1);
+        assertThat(rows()).containsExactly(Map.of("skill_name", "Java", "framework", "Quarkus", "deleted", false));
+    }
+
+    @Test
+    void upsertRevivesASoftDeletedSkill() {
+        skillJdbcRepository.upsert(List.of(skill("Java", "Spring")));
+        Long id = jdbcTemplate.queryForObject("SELECT id FROM skill WHERE category = ?", Long.class, CATEGORY);
+        assertThat(skillJdbcRepository.softDeleteByIds(List.of(id))).isEqualTo(1);
+
+        int upserted = skillJdbcRepository.upsert(List.of(skill("Java", "Quarkus")));
+
+        assertThat(upserted).isEqualTo(1);
+        assertThat(rows()).containsExactly(Map.of("skill_name", "Java", "framework", "Quarkus", "deleted", false));
+        assertThat(jdbcTemplate.queryForObject("SELECT id FROM skill WHERE category = ?", Long.class, CATEGORY)).isEqualTo(id);
+    }
+
+    @Test
+    void countIncludesInsertedAndUpdatedRows() {
+        skillJdbcRepository.upsert(List.of(skill("Java", "Spring"), skill("Go", null)));
+
+        int upserted = skillJdbcRepository.upsert(List.of(skill("Java", "Quarkus"), skill("Go", "Gin"),
+                skill("Rust", null), skill("Kotlin", "Ktor"), skill("Python", "Django")));
+
+        assertThat(upserted).isEqualTo(5);
+        assertThat(rows()).hasSize(5);
+    }
+
+    @Test
+    void deleteIgnoresUnknownIds() {
+        skillJdbcRepository.upsert(List.of(skill("Java", "Spring")));
+        Long id = jdbcTemplate.queryForObject("SELECT id FROM skill WHERE category = ?", Long.class, CATEGORY);
+
+        assertThat(skillJdbcRepository.deleteByIds(List.of(id, -1L))).isEqualTo(1);
+        assertThat(rows()).isEmpty();
+    }
+
+    private List<Map<String, Object>> rows() {
+        return jdbcTemplate.queryForList("""
+                SELECT skill_name, framework, deleted_at IS NOT NULL AS deleted
+                FROM skill WHERE category = ? ORDER BY skill_name
+                """, CATEGORY);
+    }
+
+    private static SkillDto skill(String name, String framework) {
+        return SkillDto.builder().category(CATEGORY).skill_name(name).framework(framework).build();
+    }
+}
@@ -0,0 +1,88 @@
+package com.portfolio.backend.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portfolio.backend.dtos.SkillDto;
+import com.portfolio.backend.repositories.SkillRepository;
+import com.portfolio.backend.utils.CompressedPayload;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.support.transaction.ResourcelessTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CatalogSnapshotServiceTests {
+
+    private final SkillRepository skillRepository = mock(SkillRepository.class);
+    private final CatalogSnapshotService service = new CatalogSnapshotService(skillRepository,
+            new ResourcelessTransactionManager(), new ObjectMapper());
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void readersDuringARebuildShareOneLoad() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(skillRepository.streamAllSkillDtos()).thenAnswer(invocation -> {
+            loads.incrementAndGet();
+            release.await();
+            return Stream.of(skill("Java"));
+        });
+
+        List<Future<CompressedPayload>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 50; i++) {
+                results.add(executor.submit(service::getSkills));
+            }
+            while (loads.get() == 0) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+            CompressedPayload first = results.getFirst().get(5, TimeUnit.SECONDS);
+            for (Future<CompressedPayload> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isSameAs(first);
+            }
+        }
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void snapshotIsRebuiltAfterACatalogChange() {
+        when(skillRepository.streamAllSkillDtos()).thenAnswer(invocation -> {
+            loads.incrementAndGet();
+            return Stream.of(skill("Java"));
+        });
+
+        CompressedPayload first = service.getSkills();
+        assertThat(service.getSkills()).isSameAs(first);
+        long version = service.getSkillCatalogVersion();
+        service.onSkillCatalogChanged(new SkillCatalogChangedEvent());
+
+        assertThat(service.getSkillCatalogVersion()).isGreaterThan(version);
+        assertThat(service.getSkills()).isNotSameAs(first);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void failedBuildIsRetriedByTheNextReader() {
+        when(skillRepository.streamAllSkillDtos())
+                .thenThrow(new IllegalStateException("database down"))
+                .thenAnswer(invocation -> Stream.of(skill("Java")));
+
+        assertThatIllegalStateException().isThrownBy(service::getSkills).withMessage("database down");
+        assertThat(service.getSkills().size()).isPositive();
+    }
+
+    private static SkillDto skill(String name) {
+        return SkillDto.builder().id(1L).category("Backend").skill_name(name).build();
+    }
+}
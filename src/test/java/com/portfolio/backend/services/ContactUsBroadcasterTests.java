@@ -0,0 +1,138 @@
+package com.portfolio.backend.services;
+
+import com.portfolio.backend.dtos.ContactUsFormularDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The subscriber loops are started by the tests, once the ring is in the state under test. A
+ * message that is not delivered shows up as a timeout: the heartbeat is an hour unless tested.
+ */
+class ContactUsBroadcasterTests {
+
+    private final List<Thread> loops = new CopyOnWriteArrayList<>();
+    private ContactUsBroadcaster broadcaster = new ContactUsBroadcaster(4, Duration.ofMinutes(30), Duration.ofHours(1));
+
+    @AfterEach
+    void stopSubscribers() throws InterruptedException {
+        broadcaster.shutdown();
+        for (Thread loop : loops) {
+            assertThat(loop.join(Duration.ofSeconds(5))).isTrue();
+        }
+    }
+
+    @Test
+    void messageBroadcastBeforeTheSubscriberParksIsDelivered() throws InterruptedException {
+        RecordingEmitter emitter = new RecordingEmitter();
+        Runnable[] loop = new Runnable[1];
+        broadcaster.subscribe(emitter, subscriber -> loop[0] = subscriber);
+
+        broadcaster.broadcast(message("Ada"));
+        start(loop[0]);
+
+        assertThat(emitter.next()).isEqualTo(message("Ada"));
+    }
+
+    @Test
+    void parkedSubscriberIsWokenUpByABroadcast() throws InterruptedException {
+        RecordingEmitter emitter = new RecordingEmitter();
+        broadcaster.subscribe(emitter, this::start);
+        Thread loop = loops.getFirst();
+        while (loop.getState() != Thread.State.TIMED_WAITING) {
+            Thread.onSpinWait();
+        }
+
+        broadcaster.broadcast(message("Ada"));
+        broadcaster.broadcast(message("Grace"));
+
+        assertThat(emitter.next()).isEqualTo(message("Ada"));
+        assertThat(emitter.next()).isEqualTo(message("Grace"));
+    }
+
+    @Test
+    void subscriberOnlyReceivesMessagesAfterItSubscribed() throws InterruptedException {
+        broadcaster.broadcast(message("Ada"));
+        RecordingEmitter emitter = new RecordingEmitter();
+        broadcaster.subscribe(emitter, this::start);
+
+        broadcaster.broadcast(message("Grace"));
+
+        assertThat(emitter.next()).isEqualTo(message("Grace"));
+    }
+
+    @Test
+    void lappedSubscriberIsCompleted() throws InterruptedException {
+        RecordingEmitter emitter = new RecordingEmitter();
+        Runnable[] loop = new Runnable[1];
+        broadcaster.subscribe(emitter, subscriber -> loop[0] = subscriber);
+
+        // the ring has 4 slots, the fifth message overwrites the first one the subscriber has not read
+        for (int i = 0; i < 5; i++) {
+            broadcaster.broadcast(message("message " + i));
+        }
+        start(loop[0]);
+
+        assertThat(emitter.next()).isEqualTo(RecordingEmitter.COMPLETED);
+        assertThat(emitter.events).isEmpty();
+    }
+
+    @Test
+    void idleSubscriberGetsHeartbeats() throws InterruptedException {
+        broadcaster = new ContactUsBroadcaster(4, Duration.ofMinutes(30), Duration.ofMillis(10));
+        RecordingEmitter emitter = new RecordingEmitter();
+        broadcaster.subscribe(emitter, this::start);
+
+        assertThat(emitter.next()).isEqualTo(":heartbeat\n\n");
+        assertThat(emitter.next()).isEqualTo(":heartbeat\n\n");
+    }
+
+    private void start(Runnable subscriber) {
+        loops.add(Thread.ofVirtual().start(subscriber));
+    }
+
+    private static ContactUsFormularDto message(String firstName) {
+        ContactUsFormularDto message = new ContactUsFormularDto();
+        message.setFirstName(firstName);
+        return message;
+    }
+
+    /**
+     * Records what the subscriber sends: the data of a message event, the text of a comment, or
+     * {@link #COMPLETED}.
+     */
+    private static final class RecordingEmitter extends SseEmitter {
+
+        static final Object COMPLETED = new Object();
+
+        private final BlockingQueue<Object> events = new LinkedBlockingQueue<>();
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            // a comment is a single text part, an event is "id:..data:", the data, "\n\n"
+            List<Object> parts = builder.build().stream().map(ResponseBodyEmitter.DataWithMediaType::getData).toList();
+            events.add(parts.size() == 1 ? parts.getFirst() : parts.get(1));
+        }
+
+        @Override
+        public void complete() {
+            events.add(COMPLETED);
+        }
+
+        Object next() throws InterruptedException {
+            Object event = events.poll(5, TimeUnit.SECONDS);
+            assertThat(event).as("event within 5s").isNotNull();
+            return event;
+        }
+    }
+}
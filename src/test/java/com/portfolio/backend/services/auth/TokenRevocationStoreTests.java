@@ -0,0 +1,60 @@
+package com.portfolio.backend.services.auth;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenRevocationStoreTests {
+
+    private final TokenRevocationStore store =
+            new TokenRevocationStore(Duration.ofDays(7), Duration.ofHours(1), 1000, 1e-6);
+
+    @Test
+    void revokesOnce() {
+        long expiresAt = System.currentTimeMillis() + 60_000;
+
+        assertThat(store.isRevoked("jti", expiresAt)).isFalse();
+        assertThat(store.revoke("jti", expiresAt)).isTrue();
+        assertThat(store.isRevoked("jti", expiresAt)).isTrue();
+        assertThat(store.revoke("jti", expiresAt)).isFalse();
+    }
+
+    @Test
+    void expiredTokensAreNotRevoked() {
+        assertThat(store.revoke("jti", System.currentTimeMillis() - 1)).isFalse();
+    }
+
+    @Test
+    void concurrentRevocationsOfOneTokenHaveOneWinner() throws Exception {
+        long expiresAt = System.currentTimeMillis() + 60_000;
+        int threads = 16;
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger winners = new AtomicInteger();
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    if (store.revoke("refresh-jti", expiresAt)) {
+                        winners.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        assertThat(winners).hasValue(1);
+    }
+}
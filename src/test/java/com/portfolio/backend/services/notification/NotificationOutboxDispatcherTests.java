@@ -0,0 +1,97 @@
+package com.portfolio.backend.services.notification;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portfolio.backend.dtos.ContactUsFormularDto;
+import com.portfolio.backend.repositories.NotificationOutboxRepository;
+import com.portfolio.backend.repositories.NotificationOutboxRepository.OutboxEntry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class NotificationOutboxDispatcherTests {
+
+    private static final Duration LEASE = Duration.ofMinutes(5);
+    private static final Duration RETENTION = Duration.ofDays(7);
+
+    private final NotificationOutboxRepository outboxRepository = mock(NotificationOutboxRepository.class);
+    private final NotificationSender sender = mock(NotificationSender.class);
+    // batches of 2, 5 attempts, backoff 30s doubled up to 2m
+    private final NotificationOutboxDispatcher dispatcher = new NotificationOutboxDispatcher(outboxRepository, sender,
+            new ObjectMapper(), 2, 5, Duration.ofSeconds(30), Duration.ofMinutes(2), LEASE, RETENTION);
+
+    @Test
+    void deliveredNotificationIsMarkedSent() {
+        when(outboxRepository.claim(2, LEASE)).thenReturn(List.of(entry(1, 0)));
+
+        dispatcher.dispatch();
+
+        verify(sender).sendContactUsNotification(any(ContactUsFormularDto.class));
+        verify(outboxRepository).markSent(1);
+        verify(outboxRepository, never()).markFailed(eq(1L), anyString(), any(), anyBoolean());
+    }
+
+    @Test
+    void fullBatchesAreClaimedUntilTheOutboxIsDrained() {
+        when(outboxRepository.claim(2, LEASE))
+                .thenReturn(List.of(entry(1, 0), entry(2, 0)))
+                .thenReturn(List.of(entry(3, 0)));
+
+        dispatcher.dispatch();
+
+        verify(outboxRepository, times(2)).claim(2, LEASE);
+        verify(outboxRepository).markSent(3);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "0, PT30S, false",
+            "1, PT1M,  false",
+            "2, PT2M,  false",
+            "3, PT2M,  false",
+            "4, PT2M,  true",
+            "9, PT2M,  true"
+    })
+    void failedNotificationIsRetriedWithBackoffThenGivenUp(int previousAttempts, Duration retryIn, boolean giveUp) {
+        when(outboxRepository.claim(2, LEASE)).thenReturn(List.of(entry(1, previousAttempts)));
+        doThrow(new IllegalStateException("smtp down")).when(sender).sendContactUsNotification(any());
+
+        dispatcher.dispatch();
+
+        verify(outboxRepository).markFailed(1, "smtp down", retryIn, giveUp);
+        verify(outboxRepository, never()).markSent(1);
+    }
+
+    @Test
+    void unknownKindIsRecordedAsFailure() {
+        when(outboxRepository.claim(2, LEASE)).thenReturn(List.of(new OutboxEntry(1, "sms", "{}", 0)));
+
+        dispatcher.dispatch();
+
+        verify(outboxRepository).markFailed(1, "Unknown notification kind sms", Duration.ofSeconds(30), false);
+    }
+
+    @Test
+    void purgeUsesTheRetention() {
+        dispatcher.purgeFinished();
+
+        verify(outboxRepository).purgeFinished(RETENTION);
+    }
+
+    private static OutboxEntry entry(long id, int attempts) {
+        return new OutboxEntry(id, NotificationOutbox.CONTACT_US, "{\"firstName\":\"Ada\"}", attempts);
+    }
+}
@@ -0,0 +1,37 @@
+package com.portfolio.backend.services.userService;
+
+import com.portfolio.backend.entity.Role;
+import com.portfolio.backend.repositories.UserRepository;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UserServiceImplTests {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final UserServiceImpl userService = new UserServiceImpl(userRepository, mock(CacheManager.class));
+
+    @ParameterizedTest
+    @CsvSource({
+            "2,   20,  2, 20",
+            "0,   100, 0, 100",
+            "0,   101, 0, 100",
+            "0,   0,   0, 1",
+            "0,   -5,  0, 1",
+            "-1,  20,  0, 20"
+    })
+    void numberedPageIsClamped(int pageNumber, int pageSize, int expectedNumber, int expectedSize) {
+        when(userRepository.findPageByRole(any(), any())).thenReturn(Page.empty());
+
+        userService.getFirstByRole(Role.USER, pageNumber, pageSize);
+
+        verify(userRepository).findPageByRole(Role.USER, PageRequest.of(expectedNumber, expectedSize));
+    }
+}
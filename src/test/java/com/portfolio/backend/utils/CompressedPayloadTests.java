@@ -0,0 +1,119 @@
+package com.portfolio.backend.utils;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CompressedPayloadTests {
+
+    private static final byte[] BODY = "[{\"skill_name\":\"Java\"}]".repeat(100).getBytes(StandardCharsets.UTF_8);
+
+    private final CompressedPayload payload = CompressedPayload.of(MediaType.APPLICATION_JSON, BODY);
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', nullValues = "null", value = {
+            "gzip                  | true",
+            "GZIP                  | true",
+            "deflate, gzip;q=0.5   | true",
+            "gzip;q=0              | false",
+            "gzip; q=0.000         | false",
+            "*                     | true",
+            "*;q=0                 | false",
+            "br, *                 | true",
+            "gzip;q=0, *           | false",
+            "deflate, br           | false",
+            "identity              | false",
+            "''                    | false",
+            "null                  | false"
+    })
+    void acceptsGzip(String acceptEncoding, boolean accepted) {
+        assertThat(CompressedPayload.acceptsGzip(acceptEncoding)).isEqualTo(accepted);
+    }
+
+    @Test
+    void gzipIsSentToClientsAcceptingIt() throws IOException {
+        ResponseEntity<byte[]> response = payload.toResponse(request("gzip, br", null), CacheControl.noCache());
+
+        assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(response.getHeaders().getVary()).contains(HttpHeaders.ACCEPT_ENCODING);
+        assertThat(response.getBody()).hasSizeLessThan(BODY.length);
+        try (GZIPInputStream gunzip = new GZIPInputStream(new ByteArrayInputStream(response.getBody()))) {
+            assertThat(gunzip.readAllBytes()).isEqualTo(BODY);
+        }
+    }
+
+    @Test
+    void identityIsSentToOtherClients() {
+        ResponseEntity<byte[]> response = payload.toResponse(request(null, null), CacheControl.noCache());
+
+        assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(response.getBody()).isEqualTo(BODY);
+    }
+
+    @Test
+    void eachRepresentationHasItsOwnEtag() {
+        String gzipEtag = payload.toResponse(request("gzip", null), CacheControl.noCache()).getHeaders().getETag();
+        String identityEtag = payload.toResponse(request(null, null), CacheControl.noCache()).getHeaders().getETag();
+
+        assertThat(gzipEtag).isNotEqualTo(identityEtag).endsWith("-gzip\"");
+    }
+
+    @Test
+    void matchingEtagGetsNotModified() {
+        String etag = payload.toResponse(request("gzip", null), CacheControl.noCache()).getHeaders().getETag();
+        MockHttpServletResponse servletResponse = new MockHttpServletResponse();
+
+        ResponseEntity<byte[]> response = payload.toResponse(
+                new ServletWebRequest(servletRequest("gzip", etag), servletResponse), CacheControl.noCache());
+
+        assertThat(response).isNull();
+        assertThat(servletResponse.getStatus()).isEqualTo(304);
+    }
+
+    @Test
+    void etagOfTheOtherRepresentationGetsTheBody() {
+        String identityEtag = payload.toResponse(request(null, null), CacheControl.noCache()).getHeaders().getETag();
+
+        ResponseEntity<byte[]> response = payload.toResponse(request("gzip", identityEtag), CacheControl.noCache());
+
+        assertThat(response.getStatusCode().value()).isEqualTo(200);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+    }
+
+    @Test
+    void changedBodyChangesTheEtag() {
+        CompressedPayload changed = CompressedPayload.of(MediaType.APPLICATION_JSON, "[]".getBytes(StandardCharsets.UTF_8));
+
+        assertThat(changed.toResponse(request(null, null), CacheControl.noCache()).getHeaders().getETag())
+                .isNotEqualTo(payload.toResponse(request(null, null), CacheControl.noCache()).getHeaders().getETag());
+    }
+
+    private static ServletWebRequest request(String acceptEncoding, String ifNoneMatch) {
+        return new ServletWebRequest(servletRequest(acceptEncoding, ifNoneMatch), new MockHttpServletResponse());
+    }
+
+    private static MockHttpServletRequest servletRequest(String acceptEncoding, String ifNoneMatch) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v0/getSkills");
+        if (acceptEncoding != null) {
+            request.addHeader(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+        }
+        if (ifNoneMatch != null) {
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        return request;
+    }
+}
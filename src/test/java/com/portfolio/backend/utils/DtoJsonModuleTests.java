@@ -0,0 +1,103 @@
+package com.portfolio.backend.utils;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.ser.BeanSerializer;
+import com.portfolio.backend.dtos.AuthenticationResponse;
+import com.portfolio.backend.dtos.ContactUsFormularDto;
+import com.portfolio.backend.dtos.SkillDto;
+import com.portfolio.backend.dtos.UserDto;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The hand-written serializers must write exactly what the default bean serializers write, and must
+ * only be used when the mapper writes the DTOs the default way.
+ */
+class DtoJsonModuleTests {
+
+    private final ObjectMapper reflective = new ObjectMapper();
+    private final ObjectMapper handWritten = new ObjectMapper().registerModule(new DtoJsonModule());
+
+    @Test
+    void skillDto() throws Exception {
+        assertSameJson(new SkillDto(1L, "Backend", "Java \"21\"", "Spring", "openjdk"));
+        assertSameJson(new SkillDto());
+        assertSameJson(List.of(new SkillDto(1L, "Backend", "Java", null, "é")));
+    }
+
+    @Test
+    void userDto() throws Exception {
+        assertSameJson(new UserDto(7L, "Ada", "Lovelace", "ada@example.com"));
+        assertSameJson(new UserDto());
+    }
+
+    @Test
+    void authenticationResponse() throws Exception {
+        AuthenticationResponse response = new AuthenticationResponse();
+        response.setJwt("header.payload.signature");
+        response.setRefreshToken("refresh");
+        response.setUserId(7L);
+        response.setFirstName("Ada");
+        assertSameJson(response);
+    }
+
+    @Test
+    void contactUsFormularDto() throws Exception {
+        assertSameJson(new ContactUsFormularDto("Ada", null, "0123456789", "ada@example.com", "Hello\nworld <3"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(classes = {SkillDto.class, UserDto.class, AuthenticationResponse.class, ContactUsFormularDto.class})
+    void handWrittenSerializerIsUsed(Class<?> dto) throws Exception {
+        // fails when a DTO gains a property or a Jackson annotation: update its serializer
+        assertThat(serializerOf(handWritten, dto)).isInstanceOf(DtoJsonModule.DtoSerializer.class);
+    }
+
+    @Test
+    void nonNullInclusionIsHonoured() throws Exception {
+        ObjectMapper reflectiveNonNull = new ObjectMapper().setSerializationInclusion(JsonInclude.Include.NON_NULL);
+        ObjectMapper handWrittenNonNull = new ObjectMapper().setSerializationInclusion(JsonInclude.Include.NON_NULL)
+                .registerModule(new DtoJsonModule());
+        SkillDto skill = new SkillDto(1L, "Backend", "Java", null, null);
+
+        assertThat(serializerOf(handWrittenNonNull, SkillDto.class)).isInstanceOf(DtoJsonModule.DtoSerializer.class);
+        assertThat(handWrittenNonNull.writeValueAsString(skill)).isEqualTo(reflectiveNonNull.writeValueAsString(skill))
+                .isEqualTo("{\"id\":1,\"category\":\"Backend\",\"skill_name\":\"Java\"}");
+    }
+
+    @Test
+    void otherSettingsKeepTheBeanSerializer() throws Exception {
+        SkillDto skill = new SkillDto(1L, "Backend", "", null, "openjdk");
+        ObjectMapper nonEmpty = new ObjectMapper().setSerializationInclusion(JsonInclude.Include.NON_EMPTY);
+        ObjectMapper upperCamelCase = new ObjectMapper().setPropertyNamingStrategy(PropertyNamingStrategies.UPPER_CAMEL_CASE);
+        ObjectMapper mixIn = new ObjectMapper().addMixIn(SkillDto.class, RenamedIcon.class);
+
+        for (ObjectMapper mapper : List.of(nonEmpty, upperCamelCase, mixIn)) {
+            ObjectMapper withModule = mapper.copy().registerModule(new DtoJsonModule());
+            assertThat(serializerOf(withModule, SkillDto.class)).isInstanceOf(BeanSerializer.class);
+            assertThat(withModule.writeValueAsString(skill)).isEqualTo(mapper.writeValueAsString(skill));
+        }
+    }
+
+    abstract static class RenamedIcon {
+        @JsonProperty("iconSlug")
+        abstract String getIcon();
+    }
+
+    private static JsonSerializer<Object> serializerOf(ObjectMapper mapper, Class<?> type) throws Exception {
+        return mapper.getSerializerProviderInstance().findValueSerializer(type);
+    }
+
+    private void assertSameJson(Object value) throws Exception {
+        assertThat(handWritten.writeValueAsString(value)).isEqualTo(reflective.writeValueAsString(value));
+    }
+}
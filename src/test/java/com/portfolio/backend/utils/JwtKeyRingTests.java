@@ -0,0 +1,127 @@
+package com.portfolio.backend.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Jwks;
+import io.jsonwebtoken.security.PrivateJwk;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Rotation of the JWT keys: the active key signs, every key of the set verifies.
+ */
+class JwtKeyRingTests {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final PrivateJwk<?, ?, ?> oldKey = Jwks.builder().keyPair(Jwts.SIG.ES256.keyPair().build()).id("2025-01").build();
+    private final PrivateJwk<?, ?, ?> newKey = Jwks.builder().keyPair(Jwts.SIG.ES256.keyPair().build()).id("2025-07").build();
+
+    @Test
+    void firstKeyOfTheSetIsActiveByDefault() throws Exception {
+        JwtKeyRing ring = new JwtKeyRing(keySet(oldKey, newKey), "", false, objectMapper);
+
+        assertThat(ring.getActiveKid()).isEqualTo("2025-01");
+        assertThat(ring.getSigningKey()).isEqualTo(oldKey.toKey());
+    }
+
+    @Test
+    void tokensSignedBeforeTheRotationStillVerify() throws Exception {
+        JwtKeyRing before = new JwtKeyRing(keySet(oldKey), "", false, objectMapper);
+        JwtKeyRing after = new JwtKeyRing(keySet(oldKey, newKey), "2025-07", false, objectMapper);
+        String oldToken = sign(before, "old@example.com");
+        String newToken = sign(after, "new@example.com");
+
+        assertThat(after.getActiveKid()).isEqualTo("2025-07");
+        assertThat(Jwts.parser().keyLocator(after).build().parseSignedClaims(oldToken).getPayload().getSubject())
+                .isEqualTo("old@example.com");
+        assertThat(Jwts.parser().keyLocator(after).build().parseSignedClaims(newToken).getHeader().getKeyId())
+                .isEqualTo("2025-07");
+        // the ring before the rotation does not know the new key yet
+        assertThatThrownBy(() -> Jwts.parser().keyLocator(before).build().parseSignedClaims(newToken))
+                .isInstanceOf(JwtException.class)
+                .hasMessageContaining("2025-07");
+    }
+
+    @Test
+    void unknownOrMissingKidIsRejected() throws Exception {
+        JwtKeyRing ring = new JwtKeyRing(keySet(newKey), "", false, objectMapper);
+        JwtKeyRing other = new JwtKeyRing(null, "", true, objectMapper);
+        String foreign = sign(other, "someone@example.com");
+        String withoutKid = Jwts.builder().subject("someone@example.com").signWith(newKey.toKey()).compact();
+
+        assertThatThrownBy(() -> Jwts.parser().keyLocator(ring).build().parseSignedClaims(foreign))
+                .isInstanceOf(JwtException.class)
+                .hasMessageContaining("Unknown JWT key id");
+        assertThatThrownBy(() -> Jwts.parser().keyLocator(ring).build().parseSignedClaims(withoutKid))
+                .isInstanceOf(JwtException.class)
+                .hasMessageContaining("Unknown JWT key id");
+    }
+
+    @Test
+    void jwksPublishesThePublicKeysOnly() throws Exception {
+        JwtKeyRing ring = new JwtKeyRing(keySet(oldKey, newKey), "2025-07", false, objectMapper);
+
+        JsonNode keys = objectMapper.readTree(ring.getJwks()).get("keys");
+
+        List<String> kids = new ArrayList<>();
+        keys.forEach(key -> {
+            kids.add(key.get("kid").asText());
+            assertThat(key.get("kty").asText()).isEqualTo("EC");
+            assertThat(key.has("x")).isTrue();
+            assertThat(key.has("d")).as("private part of %s", key.get("kid")).isFalse();
+        });
+        assertThat(kids).containsExactlyInAnyOrder("2025-01", "2025-07");
+    }
+
+    @Test
+    void keySetIsRequiredUnlessAGeneratedKeyIsAllowed() {
+        assertThatThrownBy(() -> new JwtKeyRing(null, "", false, objectMapper))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("portfolio.jwt.keys");
+        assertThatThrownBy(() -> new JwtKeyRing(keySet(oldKey), "2025-07", false, objectMapper))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("2025-07");
+        assertThatThrownBy(() -> new JwtKeyRing(publicKeySet(oldKey), "", false, objectMapper))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("no private part");
+    }
+
+    private static String sign(JwtKeyRing ring, String subject) {
+        return Jwts.builder()
+                .header().keyId(ring.getActiveKid()).and()
+                .subject(subject)
+                .signWith(ring.getSigningKey())
+                .compact();
+    }
+
+    private static Resource keySet(PrivateJwk<?, ?, ?>... keys) {
+        List<String> json = new ArrayList<>();
+        for (PrivateJwk<?, ?, ?> key : keys) {
+            json.add(Jwks.UNSAFE_JSON(key));
+        }
+        return resource(json);
+    }
+
+    private static Resource publicKeySet(PrivateJwk<?, ?, ?>... keys) {
+        List<String> json = new ArrayList<>();
+        for (PrivateJwk<?, ?, ?> key : keys) {
+            json.add(Jwks.json(key.toPublicJwk()));
+        }
+        return resource(json);
+    }
+
+    private static Resource resource(List<String> keys) {
+        String set = "{\"keys\":[" + String.join(",", keys) + "]}";
+        return new ByteArrayResource(set.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,56 @@
+package com.portfolio.backend.utils;
+
+import com.portfolio.backend.entity.Role;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RoleAuthoritiesTests {
+
+    @Test
+    void roleOrdinalsAreTheStoredBits() {
+        // users.roles_mask holds these bits (V7 migrated USER = 1, ADMIN = 2): reordering the enum changes every user's roles
+        assertThat(Role.values()).containsExactly(Role.USER, Role.ADMIN);
+        assertThat(RoleAuthorities.bit(Role.USER)).isEqualTo(1);
+        assertThat(RoleAuthorities.bit(Role.ADMIN)).isEqualTo(2);
+    }
+
+    @Test
+    void maskRoundTrips() {
+        for (Set<Role> roles : Set.of(EnumSet.noneOf(Role.class), EnumSet.of(Role.USER),
+                EnumSet.of(Role.ADMIN), EnumSet.allOf(Role.class))) {
+            assertThat(RoleAuthorities.roles(RoleAuthorities.mask(roles))).isEqualTo(roles);
+        }
+    }
+
+    @Test
+    void authoritiesAreTheRolePrefixedNames() {
+        assertThat(RoleAuthorities.authorities(0)).isEmpty();
+        assertThat(RoleAuthorities.authorities(1)).extracting(GrantedAuthority::getAuthority).containsExactly("ROLE_USER");
+        assertThat(RoleAuthorities.authorities(2)).extracting(GrantedAuthority::getAuthority).containsExactly("ROLE_ADMIN");
+        assertThat(RoleAuthorities.authorities(3)).extracting(GrantedAuthority::getAuthority)
+                .containsExactly("ROLE_USER", "ROLE_ADMIN");
+    }
+
+    @Test
+    void tablesAreSharedAndUnmodifiable() {
+        assertThat(RoleAuthorities.authorities(3)).isSameAs(RoleAuthorities.authorities(3));
+        assertThat(RoleAuthorities.roles(3)).isSameAs(RoleAuthorities.roles(3));
+        assertThatThrownBy(() -> RoleAuthorities.roles(1).add(Role.ADMIN)).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> RoleAuthorities.authorities(1).clear()).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {4, 6, 7, 1 << 30, -1, -2, Integer.MIN_VALUE})
+    void unknownBitsAreIgnored(int mask) {
+        assertThat(RoleAuthorities.roles(mask)).isEqualTo(RoleAuthorities.roles(mask & 3));
+        assertThat(RoleAuthorities.authorities(mask)).isSameAs(RoleAuthorities.authorities(mask & 3));
+    }
+}
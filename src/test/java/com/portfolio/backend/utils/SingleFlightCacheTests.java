@@ -0,0 +1,84 @@
+package com.portfolio.backend.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SingleFlightCacheTests {
+
+    @Test
+    void concurrentMissesShareOneLoad() throws Exception {
+        SingleFlightCache cache = new SingleFlightCache("test", Duration.ofMinutes(1), 0.1, Duration.ZERO);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<String>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 50; i++) {
+                results.add(executor.submit(() -> cache.get("key", () -> {
+                    loads.incrementAndGet();
+                    release.await();
+                    return "value";
+                })));
+            }
+            while (cache.getMisses() + cache.getCoalesced() < 50) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+            for (Future<String> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+            }
+        }
+        assertThat(loads).hasValue(1);
+        assertThat(cache.getCoalesced()).isEqualTo(49);
+    }
+
+    @Test
+    void expiredEntriesAreServedWhileTheyAreReloaded() throws Exception {
+        SingleFlightCache cache = new SingleFlightCache("test", Duration.ofMillis(10), 0, Duration.ofMinutes(1));
+        cache.put("key", "old");
+        Thread.sleep(20);
+
+        CountDownLatch reloaded = new CountDownLatch(1);
+        assertThat(cache.get("key", () -> {
+            reloaded.countDown();
+            return "new";
+        })).isEqualTo("old");
+
+        assertThat(reloaded.await(5, TimeUnit.SECONDS)).isTrue();
+        while (!"new".equals(cache.get("key", String.class))) {
+            Thread.onSpinWait();
+        }
+        assertThat(cache.getStaleHits()).isEqualTo(1);
+    }
+
+    @Test
+    void aLoadInFlightDuringAnEvictionIsNotStored() throws Exception {
+        SingleFlightCache cache = new SingleFlightCache("test", Duration.ofMinutes(1), 0, Duration.ZERO);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<String> result = executor.submit(() -> cache.get("key", () -> {
+                loading.countDown();
+                release.await();
+                return "before the change";
+            }));
+            loading.await();
+            cache.evict("key");
+            release.countDown();
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("before the change");
+        }
+        assertThat(cache.get("key")).isNull();
+    }
+}